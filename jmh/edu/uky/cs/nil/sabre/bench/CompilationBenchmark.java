@@ -0,0 +1,129 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.uky.cs.nil.sabre.Problem;
+import edu.uky.cs.nil.sabre.comp.ActionShuffler;
+import edu.uky.cs.nil.sabre.comp.CompiledProblem;
+import edu.uky.cs.nil.sabre.comp.Grounder;
+import edu.uky.cs.nil.sabre.comp.Simplifier;
+import edu.uky.cs.nil.sabre.io.DefaultParser;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * A <a href="https://github.com/openjdk/jmh">JMH</a> benchmark that measures
+ * each stage of preparing a problem for search, in isolation, on every file in
+ * the {@code problems} directory: {@link DefaultParser parsing} the problem
+ * file (already read into memory, so disk access is not measured), {@link
+ * Grounder grounding} the parsed problem, {@link Simplifier simplifying} the
+ * ground problem, and {@link ActionShuffler shuffling} the simplified
+ * problem's actions. These are the stages {@link Benchmark} and {@link
+ * Report#addProblem(Benchmark, Status)} go through before each test.
+ * <p>
+ * Each stage's input is prepared once per trial by running the stages before
+ * it, so only the stage itself is measured. This benchmark is run by the
+ * {@code jmh-compilation} target in {@code build.xml}, which uses the GC
+ * profiler to report bytes allocated by each stage and saves results as JSON
+ * so they can be compared across versions of Sabre.
+ * 
+ * @author Stephen G. Ware
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompilationBenchmark {
+	
+	/** The name of the file in the {@code problems} directory, without extension */
+	@Param({
+		"aladdin", "basketball", "bribery", "deerhunter", "fantasy", "gramma",
+		"hospital", "jailbreak", "lovers", "macguffin", "raiders",
+		"secretagent", "space", "treasure", "treasurehunt", "western"
+	})
+	public String file;
+	
+	/** The contents of the problem file */
+	private String text;
+	
+	/** The parsed problem */
+	private Problem problem;
+	
+	/** The ground problem */
+	private CompiledProblem ground;
+	
+	/** The ground and simplified problem */
+	private CompiledProblem simplified;
+	
+	/**
+	 * Reads the problem file and prepares the input for each stage.
+	 * 
+	 * @throws Exception if the problem cannot be read or parsed
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		text = new String(Files.readAllBytes(Paths.get("problems", file + ".txt")), StandardCharsets.UTF_8);
+		problem = parse();
+		ground = ground();
+		simplified = simplify();
+	}
+	
+	/**
+	 * Parses the problem file.
+	 * 
+	 * @return the parsed problem
+	 * @throws Exception if the problem cannot be parsed
+	 */
+	@org.openjdk.jmh.annotations.Benchmark
+	public Problem parse() throws Exception {
+		return new DefaultParser().parse(new StringReader(text), Problem.class);
+	}
+	
+	/**
+	 * Grounds the parsed problem.
+	 * 
+	 * @return the ground problem
+	 */
+	@org.openjdk.jmh.annotations.Benchmark
+	public CompiledProblem ground() {
+		return Grounder.compile(problem, new Status());
+	}
+	
+	/**
+	 * Simplifies the ground problem.
+	 * 
+	 * @return the simplified problem
+	 */
+	@org.openjdk.jmh.annotations.Benchmark
+	public CompiledProblem simplify() {
+		return Simplifier.compile(ground, new Status());
+	}
+	
+	/**
+	 * Shuffles the simplified problem's actions, always in the same order.
+	 * 
+	 * @return the shuffled problem
+	 */
+	@org.openjdk.jmh.annotations.Benchmark
+	public CompiledProblem shuffle() {
+		return ActionShuffler.compile(simplified, new Random(Main.SEED), new Status());
+	}
+}
\ No newline at end of file
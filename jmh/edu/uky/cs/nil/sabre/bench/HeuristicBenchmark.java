@@ -0,0 +1,239 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.uky.cs.nil.sabre.Settings;
+import edu.uky.cs.nil.sabre.comp.CompiledProblem;
+import edu.uky.cs.nil.sabre.prog.GraphHeuristic;
+import edu.uky.cs.nil.sabre.prog.ProgressionCost;
+import edu.uky.cs.nil.sabre.prog.ProgressionCostFactory;
+import edu.uky.cs.nil.sabre.prog.ProgressionNode;
+import edu.uky.cs.nil.sabre.prog.ProgressionPlanner;
+import edu.uky.cs.nil.sabre.prog.ProgressionPlanner.Method;
+import edu.uky.cs.nil.sabre.prog.ReachabilityHeuristic;
+import edu.uky.cs.nil.sabre.prog.RelaxedPlanHeuristic;
+import edu.uky.cs.nil.sabre.prog.RepeatedRootHeuristic;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * A <a href="https://github.com/openjdk/jmh">JMH</a> benchmark that measures
+ * how quickly each heuristic used in {@link Main#getProblems() the benchmark
+ * suite}, wrapped in a {@link RepeatedRootHeuristic repeated root heuristic}
+ * as it is when planners are tested, can {@link
+ * ProgressionCost#evaluate(ProgressionNode) evaluate} progression nodes.
+ * <p>
+ * To measure realistic nodes, each trial first runs a short best-first
+ * search on the benchmark problem that visits at most {@link #SEARCH_LIMIT}
+ * nodes, using the heuristic being measured, and keeps a random sample of up
+ * to {@link #NODES} of the nodes that search evaluated. A new heuristic is then
+ * created for the same compiled problem, and each benchmark operation
+ * evaluates the next sampled node, cycling through the sample. Because the
+ * same nodes are evaluated many times, heuristics that cache results may
+ * appear faster than they would during a search.
+ * <p>
+ * This benchmark is run by the {@code jmh-heuristics} target in {@code
+ * build.xml}, which uses the GC profiler to report bytes allocated per
+ * evaluation and saves results as JSON so they can be compared across
+ * versions of Sabre.
+ * 
+ * @author Stephen G. Ware
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeuristicBenchmark {
+	
+	/**
+	 * The maximum number of nodes visited by the search that samples nodes to
+	 * evaluate
+	 */
+	public static final long SEARCH_LIMIT = 2000;
+	
+	/** The maximum number of nodes to sample */
+	public static final int NODES = 1000;
+	
+	/**
+	 * A heuristic that defers to {@link #parent another heuristic} and keeps a
+	 * random sample of the nodes it evaluates.
+	 */
+	private static final class Sampler implements ProgressionCost {
+		
+		/**
+		 * A factory for samplers that remembers the last compiled problem and
+		 * sampler it created.
+		 */
+		private static final class Factory implements ProgressionCostFactory {
+			
+			/** Serial version ID */
+			private static final long serialVersionUID = Settings.VERSION_UID;
+			
+			/** The factory for the heuristic being sampled */
+			public final ProgressionCostFactory parent;
+			
+			/** The last compiled problem a sampler was created for */
+			public transient CompiledProblem problem = null;
+			
+			/** The last sampler created */
+			public transient Sampler sampler = null;
+			
+			public Factory(ProgressionCostFactory parent) {
+				this.parent = parent;
+			}
+			
+			@Override
+			public Sampler getCost(CompiledProblem problem, Status status) {
+				this.problem = problem;
+				this.sampler = new Sampler(parent.getCost(problem, status));
+				return sampler;
+			}
+		}
+		
+		/** The heuristic being sampled */
+		public final ProgressionCost parent;
+		
+		/** A uniform random sample of the nodes evaluated so far */
+		public final List<ProgressionNode<?>> nodes = new ArrayList<>();
+		
+		/** The number of nodes evaluated so far */
+		private long evaluated = 0;
+		
+		/** Chooses which nodes to keep */
+		private final Random random = new Random(Main.SEED);
+		
+		public Sampler(ProgressionCost parent) {
+			this.parent = parent;
+		}
+		
+		@Override
+		public <N> double evaluate(ProgressionNode<N> node) {
+			evaluated++;
+			if(nodes.size() < NODES)
+				nodes.add(node);
+			else {
+				long index = (long) (random.nextDouble() * evaluated);
+				if(index < NODES)
+					nodes.set((int) index, node);
+			}
+			return parent.evaluate(node);
+		}
+	}
+	
+	/** The name of the {@link Benchmark benchmark problem} */
+	@Param({
+		"bribery", "deerhunter_any", "deerhunter_both", "secretagent",
+		"aladdin_any", "aladdin_both", "hospital_any", "hospital_both",
+		"basketball_any", "basketball_both", "western", "fantasy_any",
+		"fantasy_two", "fantasy_all", "space_any", "space_two", "space_three",
+		"space_four", "space_all", "raiders", "treasure", "gramma_any",
+		"gramma_win", "jailbreak_lose", "jailbreak_escape", "jailbreak_revenge",
+		"lovers"
+	})
+	public String problem;
+	
+	/** The name of the heuristic, as used in {@link Main#getPlanners()} */
+	@Param({"reach", "h+", "hmax", "rp"})
+	public String heuristic;
+	
+	/** The heuristic being measured */
+	private ProgressionCost cost;
+	
+	/** The sampled nodes to evaluate */
+	private ProgressionNode<?>[] nodes;
+	
+	/** The index of the next node to evaluate */
+	private int index = 0;
+	
+	/**
+	 * Loads the problem, samples nodes from a short search, and creates the
+	 * heuristic to measure.
+	 * 
+	 * @throws Exception if the problem cannot be loaded
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		Status status = new Status();
+		Benchmark benchmark = getBenchmark(problem);
+		benchmark.load(status);
+		ProgressionCostFactory factory = getHeuristic(heuristic);
+		Sampler.Factory sampler = new Sampler.Factory(factory);
+		ProgressionPlanner planner = new ProgressionPlanner(heuristic);
+		planner.setMethod(Method.BEST_FIRST);
+		planner.setCost(ProgressionCostFactory.TEMPORAL);
+		planner.setHeuristic(sampler);
+		planner.setSearchLimit(SEARCH_LIMIT);
+		benchmark.getSearch(planner, 1, status).get(status);
+		if(sampler.sampler == null || sampler.sampler.nodes.isEmpty())
+			throw new IllegalStateException("No nodes were evaluated on problem \"" + problem + "\".");
+		nodes = sampler.sampler.nodes.toArray(new ProgressionNode<?>[0]);
+		cost = factory.getCost(sampler.problem, status);
+	}
+	
+	/**
+	 * Evaluates the next sampled node.
+	 * 
+	 * @return the heuristic value of the node
+	 */
+	@org.openjdk.jmh.annotations.Benchmark
+	public double evaluate() {
+		ProgressionNode<?> node = nodes[index];
+		index = (index + 1) % nodes.length;
+		return cost.evaluate(node);
+	}
+	
+	/**
+	 * Returns the benchmark problem with a given name from {@link
+	 * Main#getProblems()}.
+	 * 
+	 * @param name the name of the benchmark problem
+	 * @return the benchmark problem
+	 * @throws IllegalArgumentException if there is no problem with that name
+	 */
+	static final Benchmark getBenchmark(String name) {
+		for(Benchmark benchmark : Main.getProblems())
+			if(benchmark.name.equals(name))
+				return benchmark;
+		throw new IllegalArgumentException("There is no benchmark problem named \"" + name + "\".");
+	}
+	
+	/**
+	 * Returns a factory for the heuristic with a given name, wrapped in a
+	 * {@link RepeatedRootHeuristic repeated root heuristic} as in {@link
+	 * Main#getPlanners()}.
+	 * 
+	 * @param name the name of the heuristic
+	 * @return a factory for the heuristic
+	 * @throws IllegalArgumentException if there is no heuristic with that name
+	 */
+	static final ProgressionCostFactory getHeuristic(String name) {
+		switch(name) {
+		case "reach":
+			return new RepeatedRootHeuristic.Factory(ReachabilityHeuristic.FACTORY);
+		case "h+":
+			return new RepeatedRootHeuristic.Factory(GraphHeuristic.SUM);
+		case "hmax":
+			return new RepeatedRootHeuristic.Factory(GraphHeuristic.MAX);
+		case "rp":
+			return new RepeatedRootHeuristic.Factory(RelaxedPlanHeuristic.FACTORY);
+		default:
+			throw new IllegalArgumentException("There is no heuristic named \"" + name + "\".");
+		}
+	}
+}
\ No newline at end of file
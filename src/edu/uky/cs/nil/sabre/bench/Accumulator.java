@@ -0,0 +1,296 @@
+package edu.uky.cs.nil.sabre.bench;
+
+/**
+ * An accumulator calculates the count, sum, minimum, maximum, mean, and
+ * variance of a stream of numbers in a single pass without storing the numbers
+ * or boxing them. The mean and variance are updated using Welford's method,
+ * which is numerically stable even when values are large.
+ * <p>
+ * Values can be added to an accumulator incrementally, and two accumulators
+ * can be {@link #merge(Accumulator) merged} to produce the same statistics as
+ * if all values had been added to one accumulator. Accumulators are not thread
+ * safe, but statistics for a large collection can be calculated in parallel by
+ * giving each thread its own accumulator and merging them at the end.
+ * <p>
+ * An accumulator also keeps a {@link QuantileSketch quantile sketch} of its
+ * values, so it can report the median and other quantiles exactly for small
+ * collections and approximately, using bounded memory, for large ones.
+ * <p>
+ * Like {@link Statistic statistics}, an accumulator treats each value both as
+ * an integer (using its {@link Number#longValue() long value}) and as a
+ * decimal (using its {@link Number#doubleValue() double value}).
+ * 
+ * @author Stephen G. Ware
+ */
+public class Accumulator {
+	
+	/** The number of values added */
+	private long count = 0;
+	
+	/** The sum of all values as integers */
+	private long integerSum = 0;
+	
+	/** The sum of all values as decimals */
+	private double decimalSum = 0;
+	
+	/** The smallest value as an integer */
+	private long integerMin = Long.MAX_VALUE;
+	
+	/** The largest value as an integer */
+	private long integerMax = Long.MIN_VALUE;
+	
+	/** The smallest value as a decimal */
+	private double decimalMin = Double.POSITIVE_INFINITY;
+	
+	/** The largest value as a decimal */
+	private double decimalMax = Double.NEGATIVE_INFINITY;
+	
+	/** The running mean of all values */
+	private double mean = 0;
+	
+	/**
+	 * The running sum of squared differences from the mean, which is used to
+	 * calculate the variance
+	 */
+	private double squares = 0;
+	
+	/** A sketch of the values' distribution used to calculate quantiles */
+	private final QuantileSketch quantiles = new QuantileSketch();
+	
+	/**
+	 * Constructs a new, empty accumulator.
+	 */
+	public Accumulator() {
+		// Empty
+	}
+	
+	/**
+	 * Constructs a new accumulator and adds all non-null numbers in a
+	 * collection to it.
+	 * 
+	 * @param values the numbers to add
+	 */
+	public Accumulator(Iterable<? extends Number> values) {
+		add(values);
+	}
+	
+	@Override
+	public String toString() {
+		return "[count=" + count + " min=" + getDecimalMin() + " max=" + getDecimalMax() + " mean=" + getMean() + " std=" + getStandardDeviation() + "]";
+	}
+	
+	/**
+	 * Adds an integer value.
+	 * 
+	 * @param value the value to add
+	 */
+	public void add(long value) {
+		integerSum += value;
+		integerMin = Math.min(integerMin, value);
+		integerMax = Math.max(integerMax, value);
+		update((double) value);
+	}
+	
+	/**
+	 * Adds a decimal value.
+	 * 
+	 * @param value the value to add
+	 */
+	public void add(double value) {
+		long integer = (long) value;
+		integerSum += integer;
+		integerMin = Math.min(integerMin, integer);
+		integerMax = Math.max(integerMax, integer);
+		update(value);
+	}
+	
+	/**
+	 * Adds a number as an integer if it is an integer type or as a decimal
+	 * otherwise. If the number is null, it is ignored.
+	 * 
+	 * @param value the value to add, or null
+	 */
+	public void add(Number value) {
+		if(value == null)
+			return;
+		else if(isInteger(value))
+			add(value.longValue());
+		else
+			add(value.doubleValue());
+	}
+	
+	/**
+	 * Adds all non-null numbers in a collection.
+	 * 
+	 * @param values the numbers to add
+	 */
+	public void add(Iterable<? extends Number> values) {
+		for(Number value : values)
+			add(value);
+	}
+	
+	private final void update(double value) {
+		count++;
+		decimalSum += value;
+		decimalMin = Math.min(decimalMin, value);
+		decimalMax = Math.max(decimalMax, value);
+		double difference = value - mean;
+		mean += difference / count;
+		squares += difference * (value - mean);
+		quantiles.add(value);
+	}
+	
+	/**
+	 * Adds all the values that were added to another accumulator to this
+	 * accumulator. The other accumulator is not modified.
+	 * 
+	 * @param other the accumulator whose values will be added to this one
+	 */
+	public void merge(Accumulator other) {
+		if(other.count == 0)
+			return;
+		long count = this.count + other.count;
+		double difference = other.mean - this.mean;
+		this.mean += difference * other.count / count;
+		this.squares += other.squares + difference * difference * ((double) this.count * other.count / count);
+		this.count = count;
+		this.integerSum += other.integerSum;
+		this.decimalSum += other.decimalSum;
+		this.integerMin = Math.min(this.integerMin, other.integerMin);
+		this.integerMax = Math.max(this.integerMax, other.integerMax);
+		this.decimalMin = Math.min(this.decimalMin, other.decimalMin);
+		this.decimalMax = Math.max(this.decimalMax, other.decimalMax);
+		this.quantiles.merge(other.quantiles);
+	}
+	
+	/**
+	 * Returns the number of values added.
+	 * 
+	 * @return the number of values
+	 */
+	public long getCount() {
+		return count;
+	}
+	
+	/**
+	 * Returns the sum of all values as integers, or 0 if no values were added.
+	 * 
+	 * @return the integer sum
+	 */
+	public long getIntegerSum() {
+		return integerSum;
+	}
+	
+	/**
+	 * Returns the sum of all values as decimals, or 0 if no values were added.
+	 * 
+	 * @return the decimal sum
+	 */
+	public double getDecimalSum() {
+		return decimalSum;
+	}
+	
+	/**
+	 * Returns the smallest value as an integer, or null if no values were
+	 * added.
+	 * 
+	 * @return the smallest integer, or null
+	 */
+	public Long getIntegerMin() {
+		return count == 0 ? null : integerMin;
+	}
+	
+	/**
+	 * Returns the largest value as an integer, or null if no values were
+	 * added.
+	 * 
+	 * @return the largest integer, or null
+	 */
+	public Long getIntegerMax() {
+		return count == 0 ? null : integerMax;
+	}
+	
+	/**
+	 * Returns the smallest value as a decimal, or null if no values were
+	 * added.
+	 * 
+	 * @return the smallest decimal, or null
+	 */
+	public Double getDecimalMin() {
+		return count == 0 ? null : decimalMin;
+	}
+	
+	/**
+	 * Returns the largest value as a decimal, or null if no values were
+	 * added.
+	 * 
+	 * @return the largest decimal, or null
+	 */
+	public Double getDecimalMax() {
+		return count == 0 ? null : decimalMax;
+	}
+	
+	/**
+	 * Returns the mean, or average, of all values, or null if no values were
+	 * added.
+	 * 
+	 * @return the mean, or null
+	 */
+	public Double getMean() {
+		return count == 0 ? null : mean;
+	}
+	
+	/**
+	 * Returns the population variance of all values, or null if no values
+	 * were added.
+	 * 
+	 * @return the variance, or null
+	 */
+	public Double getVariance() {
+		return count == 0 ? null : squares / count;
+	}
+	
+	/**
+	 * Returns the population standard deviation of all values, or null if no
+	 * values were added.
+	 * 
+	 * @return the standard deviation, or null
+	 */
+	public Double getStandardDeviation() {
+		return count == 0 ? null : Math.sqrt(squares / count);
+	}
+	
+	/**
+	 * Returns the value at a given quantile of all values, or null if no
+	 * values were added. See {@link QuantileSketch#getQuantile(double)}.
+	 * 
+	 * @param quantile the quantile, between 0 (the minimum) and 1 (the
+	 * maximum)
+	 * @return the value at that quantile, or null
+	 * @throws IllegalArgumentException if the quantile is not between 0 and 1
+	 */
+	public Double getQuantile(double quantile) {
+		return quantiles.getQuantile(quantile);
+	}
+	
+	/**
+	 * Returns the median of all values, or null if no values were added.
+	 * 
+	 * @return the median, or null
+	 */
+	public Double getMedian() {
+		return getQuantile(0.5);
+	}
+	
+	/**
+	 * Checks whether a number is one of Java's integer types, as opposed to a
+	 * decimal type.
+	 * 
+	 * @param number the number
+	 * @return true if the number is a {@link Long}, {@link Integer}, {@link
+	 * Short}, or {@link Byte}
+	 */
+	static boolean isInteger(Number number) {
+		return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+	}
+}
\ No newline at end of file
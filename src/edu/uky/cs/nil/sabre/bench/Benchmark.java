@@ -67,6 +67,9 @@ public class Benchmark {
 	/** The problem before it is compiled */
 	private Problem problem = null;
 	
+	/** The nanoseconds spent parsing the problem, or null if not yet loaded */
+	private Long parseTime = null;
+	
 	/**
 	 * Constructs a new benchmark task.
 	 * 
@@ -96,11 +99,26 @@ public class Benchmark {
 	 * @throws ParseException if the problem cannot be parsed
 	 */
 	public void load(Status status) throws IOException, ParseException {
+		PhaseTimer timer = new PhaseTimer(name, null, 0);
+		timer.start(Phase.PARSE);
 		Parser parser = new DefaultParser();
 		problem = parser.parse(new BufferedReader(new FileReader(new File("problems/" + file + ".txt"))), Problem.class);
 		ProblemBuilder builder = new ProblemBuilder(problem);
 		builder.setName(name);
 		problem = new Problem(builder);
+		timer.stop();
+		parseTime = timer.get(Phase.PARSE);
+	}
+	
+	/**
+	 * Returns the number of nanoseconds spent {@link Phase#PARSE parsing} the
+	 * problem file when {@link #load(Status)} was called, or null if it has
+	 * not been called.
+	 * 
+	 * @return the parse time in nanoseconds, or null
+	 */
+	public Long getParseTime() {
+		return parseTime;
 	}
 	
 	/**
@@ -143,11 +161,30 @@ public class Benchmark {
 		return null;
 	}
 	
+	/**
+	 * Returns the seed used to shuffle the order of this problem's actions on
+	 * a given run, or null if the actions are not shuffled on that run. Every
+	 * run after the first is shuffled if {@link Main#SHUFFLE} is true, and its
+	 * seed is {@link Main#SHUFFLE_SEED} plus the run number, so a run is
+	 * shuffled the same way every time it is {@link Replay replayed}.
+	 * 
+	 * @param run the number of times a planner has attempted this problem
+	 * (starting at 1)
+	 * @return the seed, or null if the run is not shuffled
+	 */
+	public Long getShuffleSeed(int run) {
+		if(run > 1 && Main.SHUFFLE)
+			return Main.SHUFFLE_SEED + run;
+		else
+			return null;
+	}
+	
 	/**
 	 * Creates a {@link ProgressionSearch progression search} for this benchmark
 	 * problem using the given planner with this benchmark's settings. If the
 	 * run is higher than 1 and {@link Main#SHUFFLE} is true, the problem will
-	 * be recompiled to shuffle the order of its actions.
+	 * be recompiled to shuffle the order of its actions using its {@link
+	 * #getShuffleSeed(int) shuffle seed}.
 	 * 
 	 * @param planner the planner that will create the search
 	 * @param run the number of times this planner has attempted this problem
@@ -156,17 +193,85 @@ public class Benchmark {
 	 * @return the search
 	 */
 	public ProgressionSearch getSearch(ProgressionPlanner planner, int run, Status status) {
+		return getSearch(planner, run, status, new PhaseTimer(name, planner.name, run));
+	}
+	
+	/**
+	 * Creates a {@link ProgressionSearch progression search} for this benchmark
+	 * problem using the given planner with this benchmark's settings and
+	 * records the time spent in each {@link Phase phase} of creating it. See
+	 * {@link #getSearch(ProgressionPlanner, int, Status)}. Time spent waiting
+	 * for other threads to finish configuring the same planner is not
+	 * counted.
+	 * 
+	 * @param planner the planner that will create the search
+	 * @param run the number of times this planner has attempted this problem
+	 * (starting at 1)
+	 * @param status a status object to update while the search is created
+	 * @param timer a timer to record the time spent compiling, shuffling, and
+	 * setting up the search
+	 * @return the search
+	 */
+	public ProgressionSearch getSearch(ProgressionPlanner planner, int run, Status status, PhaseTimer timer) {
+		timer.start(Phase.COMPILE);
 		CompiledProblem compiled = planner.compile(problem, status);
-		if(run > 1 && Main.SHUFFLE)
-			compiled = ActionShuffler.compile(compiled, new Random(run), status);
+		Long seed = getShuffleSeed(run);
+		if(seed != null) {
+			timer.start(Phase.SHUFFLE);
+			compiled = ActionShuffler.compile(compiled, new Random(seed), status);
+		}
+		timer.stop();
 		ProgressionSearch search = null;
 		synchronized(planner) {
+			timer.start(Phase.SETUP);
 			planner.setAuthorTemporalLimit(atl);
 			planner.setCharacterTemporalLimit(ctl);
 			planner.setEpistemicLimit(el);
 			search = planner.getSearch(compiled, status);
 		}
 		search.setGoal(Number.get(goal));
+		timer.stop();
+		return search;
+	}
+	
+	/**
+	 * Creates a {@link ProgressionSearch progression search} for this benchmark
+	 * problem from a problem the planner has already compiled, using this
+	 * benchmark's goal but the given limits instead of this benchmark's. This
+	 * allows one compiled problem to be searched with many different limits,
+	 * as in a {@link LimitSweep limit sweep}. The planner's search and time
+	 * limits are only changed while the search is created, so they are the
+	 * same afterward as before.
+	 * 
+	 * @param planner the planner that will create the search
+	 * @param compiled the problem, as compiled by the planner
+	 * @param atl the author temporal limit
+	 * @param ctl the character temporal limit
+	 * @param el the epistemic limit
+	 * @param nodes the maximum number of nodes the search may visit
+	 * @param time the maximum number of milliseconds the search may take
+	 * @param status a status object to update while the search is created
+	 * @return the search
+	 */
+	public ProgressionSearch getSearch(ProgressionPlanner planner, CompiledProblem compiled, int atl, int ctl, int el, long nodes, long time, Status status) {
+		ProgressionSearch search = null;
+		synchronized(planner) {
+			long searchLimit = planner.getSearchLimit();
+			long timeLimit = planner.getTimeLimit();
+			planner.setAuthorTemporalLimit(atl);
+			planner.setCharacterTemporalLimit(ctl);
+			planner.setEpistemicLimit(el);
+			planner.setSearchLimit(nodes);
+			planner.setTimeLimit(time);
+			try {
+				search = planner.getSearch(compiled, status);
+			}
+			finally {
+				planner.setSearchLimit(searchLimit);
+				planner.setTimeLimit(timeLimit);
+			}
+		}
+		search.setGoal(Number.get(goal));
 		return search;
 	}
 }
\ No newline at end of file
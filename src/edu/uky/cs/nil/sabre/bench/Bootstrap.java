@@ -0,0 +1,220 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Calculates percentile bootstrap confidence intervals for a statistic, such
+ * as the mean or median, of a small sample of numbers. The sample is
+ * resampled with replacement many times, the statistic is calculated for each
+ * resample, and the interval is the range between the percentiles of those
+ * results that contain the desired share of them.
+ * <p>
+ * Resampling is split into {@link java.util.concurrent.ForkJoinTask fork-join
+ * tasks} that run in parallel on the {@link
+ * java.util.concurrent.ForkJoinPool#commonPool() common pool} (or on whatever
+ * pool the caller is already running in). Each task draws from a {@link
+ * SplittableRandom random number generator} {@link SplittableRandom#split()
+ * split} from the one before it in a fixed pattern, so the same sample and
+ * seed always produce the same interval no matter how many threads are used
+ * or how they are scheduled.
+ * 
+ * @author Stephen G. Ware
+ */
+public class Bootstrap {
+	
+	/**
+	 * An interval between a lower and upper bound, such as a confidence
+	 * interval.
+	 */
+	public static final class Interval {
+		
+		/** The lower bound */
+		public final double lower;
+		
+		/** The upper bound */
+		public final double upper;
+		
+		/**
+		 * Constructs a new interval.
+		 * 
+		 * @param lower the lower bound
+		 * @param upper the upper bound
+		 */
+		public Interval(double lower, double upper) {
+			this.lower = lower;
+			this.upper = upper;
+		}
+		
+		@Override
+		public String toString() {
+			return "[" + lower + ", " + upper + "]";
+		}
+		
+		/**
+		 * Returns the distance between the lower and upper bounds.
+		 * 
+		 * @return the interval's width
+		 */
+		public double getWidth() {
+			return upper - lower;
+		}
+	}
+	
+	/** Calculates the mean of a sample */
+	public static final ToDoubleFunction<double[]> MEAN = values -> {
+		double sum = 0;
+		for(double value : values)
+			sum += value;
+		return sum / values.length;
+	};
+	
+	/**
+	 * Calculates the median of a sample; the sample array will be sorted
+	 */
+	public static final ToDoubleFunction<double[]> MEDIAN = values -> {
+		Arrays.sort(values);
+		int middle = values.length / 2;
+		if(values.length % 2 == 1)
+			return values[middle];
+		else
+			return (values[middle - 1] + values[middle]) / 2;
+	};
+	
+	/**
+	 * The number of resamples one task will calculate before it splits its
+	 * work into two tasks
+	 */
+	private static final int THRESHOLD = 1000;
+	
+	/** The number of times the sample is resampled */
+	public final int resamples;
+	
+	/**
+	 * The share of resampled statistics the interval must contain, between 0
+	 * and 1
+	 */
+	public final double confidence;
+	
+	/** The seed for the random number generator used to resample */
+	public final long seed;
+	
+	/**
+	 * Constructs a new bootstrap calculator.
+	 * 
+	 * @param resamples the number of times to resample
+	 * @param confidence the share of resampled statistics the interval must
+	 * contain, between 0 and 1 (for example, 0.95 for a 95% confidence
+	 * interval)
+	 * @param seed the seed for the random number generator
+	 * @throws IllegalArgumentException if the number of resamples is less
+	 * than 1 or the confidence is not between 0 and 1
+	 */
+	public Bootstrap(int resamples, double confidence, long seed) {
+		if(resamples < 1)
+			throw new IllegalArgumentException("There must be at least 1 resample.");
+		if(confidence <= 0 || confidence >= 1)
+			throw new IllegalArgumentException("The confidence level must be between 0 and 1.");
+		this.resamples = resamples;
+		this.confidence = confidence;
+		this.seed = seed;
+	}
+	
+	@Override
+	public String toString() {
+		return resamples + " resamples at " + Math.round(confidence * 100) + "% confidence (seed " + seed + ")";
+	}
+	
+	/**
+	 * Calculates a confidence interval for a statistic of all non-null
+	 * numbers in a collection, or returns null if there are no non-null
+	 * numbers.
+	 * 
+	 * @param values the sample
+	 * @param statistic the statistic to calculate for each resample
+	 * @return the confidence interval, or null
+	 */
+	public Interval getInterval(Iterable<? extends Number> values, ToDoubleFunction<double[]> statistic) {
+		int count = 0;
+		for(Number value : values)
+			if(value != null)
+				count++;
+		double[] sample = new double[count];
+		int index = 0;
+		for(Number value : values)
+			if(value != null)
+				sample[index++] = value.doubleValue();
+		return getInterval(sample, statistic);
+	}
+	
+	/**
+	 * Calculates a confidence interval for a statistic of a sample, or returns
+	 * null if the sample is empty.
+	 * 
+	 * @param sample the sample, which will not be modified
+	 * @param statistic the statistic to calculate for each resample
+	 * @return the confidence interval, or null
+	 */
+	public Interval getInterval(double[] sample, ToDoubleFunction<double[]> statistic) {
+		if(sample.length == 0)
+			return null;
+		double[] results = new double[resamples];
+		new Resample(sample, statistic, results, 0, resamples, new SplittableRandom(seed)).invoke();
+		Arrays.sort(results);
+		double tail = (1 - confidence) / 2;
+		return new Interval(percentile(results, tail), percentile(results, 1 - tail));
+	}
+	
+	private static final double percentile(double[] sorted, double quantile) {
+		double rank = quantile * (sorted.length - 1);
+		int below = (int) Math.floor(rank);
+		int above = (int) Math.ceil(rank);
+		return sorted[below] + (sorted[above] - sorted[below]) * (rank - below);
+	}
+	
+	/**
+	 * A task which calculates the statistic for a range of resamples, splitting
+	 * itself into smaller tasks if the range is large.
+	 */
+	private static final class Resample extends RecursiveAction {
+		
+		/** Serial version ID */
+		private static final long serialVersionUID = Settings.VERSION_UID;
+		
+		private final double[] sample;
+		private final ToDoubleFunction<double[]> statistic;
+		private final double[] results;
+		private final int from;
+		private final int to;
+		private final SplittableRandom random;
+		
+		public Resample(double[] sample, ToDoubleFunction<double[]> statistic, double[] results, int from, int to, SplittableRandom random) {
+			this.sample = sample;
+			this.statistic = statistic;
+			this.results = results;
+			this.from = from;
+			this.to = to;
+			this.random = random;
+		}
+		
+		@Override
+		protected void compute() {
+			if(to - from <= THRESHOLD) {
+				double[] resample = new double[sample.length];
+				for(int i=from; i<to; i++) {
+					for(int j=0; j<resample.length; j++)
+						resample[j] = sample[random.nextInt(sample.length)];
+					results[i] = statistic.applyAsDouble(resample);
+				}
+			}
+			else {
+				int middle = (from + to) >>> 1;
+				Resample left = new Resample(sample, statistic, results, from, middle, random.split());
+				Resample right = new Resample(sample, statistic, results, middle, to, random);
+				invokeAll(left, right);
+			}
+		}
+	}
+}
\ No newline at end of file
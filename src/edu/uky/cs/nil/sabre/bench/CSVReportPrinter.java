@@ -32,6 +32,11 @@ public class CSVReportPrinter implements ReportPrinter {
 		print(report.planners, "planners");
 		print(report.results, "results");
 		print(report.summary, "summary");
+		print(report.comparisons, "comparisons");
+		print(report.cactus, "cactus");
+		print(report.scaling, "scaling");
+		print(report.collectors, "collectors");
+		print(report.configuration, "configuration");
 	}
 	
 	private final void print(Table table, String name) throws IOException {
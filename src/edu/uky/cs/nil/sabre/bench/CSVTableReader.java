@@ -0,0 +1,190 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads a {@link Table table} from a CSV (comma separated value) file written
+ * by a {@link CSVTablePrinter CSV table printer}. The first line gives the
+ * column labels, and each following line is one row, labeled by its line
+ * number starting at 1. Quoted values are strings, and the type of every other
+ * column is the narrowest of {@link Boolean}, {@link Long}, and {@link Double}
+ * that fits all of its values, or {@link String} if none do. Empty values are
+ * null.
+ * 
+ * @author Stephen G. Ware
+ */
+public class CSVTableReader implements Closeable {
+	
+	private final BufferedReader reader;
+	
+	/**
+	 * Constructs a CSV table reader with a given {@link Reader reader}.
+	 * 
+	 * @param reader a reader that reads from this reader's source
+	 */
+	public CSVTableReader(Reader reader) {
+		this.reader = new BufferedReader(reader);
+	}
+	
+	/**
+	 * Constructs a CSV table reader that reads from a given file.
+	 * 
+	 * @param file the file from which the table will be read
+	 * @throws IOException if an exception occurs while opening a reader to the
+	 * file
+	 */
+	public CSVTableReader(File file) throws IOException {
+		this(new FileReader(file));
+	}
+	
+	/**
+	 * Reads a table in comma separated value format from this reader's
+	 * source.
+	 * 
+	 * @return the table
+	 * @throws IOException if an exception occurs while reading the table or if
+	 * a line has a different number of values than there are columns
+	 */
+	public Table read() throws IOException {
+		Table table = new Table();
+		List<Map<String, Object>> rows = readRows(table);
+		for(int i=0; i<rows.size(); i++) {
+			table.addRow(i + 1);
+			for(Map.Entry<String, Object> entry : rows.get(i).entrySet())
+				table.set(i + 1, entry.getKey(), entry.getValue());
+		}
+		return table;
+	}
+	
+	/**
+	 * Reads the rows of a table in comma separated value format from this
+	 * reader's source without building a {@link Table table}, which is much
+	 * faster for large tables like {@link Report#results the results of every
+	 * test}. Each row is a map from column labels to values, in column order.
+	 * 
+	 * @return the rows of the table, in order
+	 * @throws IOException if an exception occurs while reading the table or if
+	 * a line has a different number of values than there are columns
+	 */
+	public List<Map<String, Object>> readRows() throws IOException {
+		return readRows(null);
+	}
+	
+	private List<Map<String, Object>> readRows(Table table) throws IOException {
+		ArrayList<Map<String, Object>> rows = new ArrayList<>();
+		String line = reader.readLine();
+		if(line == null)
+			return rows;
+		List<String> labels = split(line);
+		ArrayList<List<String>> lines = new ArrayList<>();
+		while((line = reader.readLine()) != null) {
+			if(line.isEmpty())
+				continue;
+			List<String> values = split(line);
+			if(values.size() != labels.size())
+				throw new IOException("Line " + (lines.size() + 2) + " has " + values.size() + " values, but there are " + labels.size() + " columns.");
+			lines.add(values);
+		}
+		Class<?>[] types = new Class<?>[labels.size()];
+		for(int i=0; i<types.length; i++) {
+			types[i] = getType(lines, i);
+			if(table != null)
+				table.addColumn(unquote(labels.get(i)), types[i]);
+		}
+		for(List<String> values : lines) {
+			LinkedHashMap<String, Object> row = new LinkedHashMap<>();
+			for(int i=0; i<types.length; i++)
+				row.put(unquote(labels.get(i)), parse(values.get(i), types[i]));
+			rows.add(row);
+		}
+		return rows;
+	}
+	
+	private static final List<String> split(String line) {
+		ArrayList<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for(int i=0; i<line.length(); i++) {
+			char c = line.charAt(i);
+			if(c == '"')
+				quoted = !quoted;
+			else if(c == ',' && !quoted) {
+				values.add(value.toString());
+				value.setLength(0);
+				continue;
+			}
+			value.append(c);
+		}
+		values.add(value.toString());
+		return values;
+	}
+	
+	private static final boolean isQuoted(String value) {
+		return value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"");
+	}
+	
+	private static final String unquote(String value) {
+		return isQuoted(value) ? value.substring(1, value.length() - 1) : value;
+	}
+	
+	private static final Class<?> getType(List<List<String>> lines, int column) {
+		boolean bool = true;
+		boolean integer = true;
+		boolean decimal = true;
+		for(List<String> line : lines) {
+			String value = line.get(column);
+			if(value.isEmpty())
+				continue;
+			else if(isQuoted(value))
+				return String.class;
+			bool = bool && (value.equals("true") || value.equals("false"));
+			integer = integer && value.matches("-?\\d+");
+			decimal = decimal && isDecimal(value);
+		}
+		if(bool)
+			return Boolean.class;
+		else if(integer)
+			return Long.class;
+		else if(decimal)
+			return Double.class;
+		else
+			return String.class;
+	}
+	
+	private static final boolean isDecimal(String value) {
+		try {
+			Double.parseDouble(value);
+			return true;
+		}
+		catch(NumberFormatException e) {
+			return false;
+		}
+	}
+	
+	private static final Object parse(String value, Class<?> type) {
+		if(value.isEmpty())
+			return null;
+		else if(type.equals(Boolean.class))
+			return Boolean.valueOf(value);
+		else if(type.equals(Long.class))
+			return Long.valueOf(value);
+		else if(type.equals(Double.class))
+			return Double.valueOf(value);
+		else
+			return unquote(value);
+	}
+	
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.File;
+
+/**
+ * Compares the {@link Report#results results} of a new benchmark run to a
+ * baseline to find {@link Comparison performance regressions}. The first
+ * argument is the baseline results CSV file, such as a copy of the {@code
+ * results/results.csv} file checked in with the benchmarks, and the optional
+ * second argument is the current results CSV file, which defaults to {@code
+ * results/results.csv}. The comparison is printed and saved to {@code
+ * comparison.html}. The program exits with status 1 if any regressions were
+ * found, so it can fail an automated build.
+ * 
+ * @author Stephen G. Ware
+ */
+public class Compare {
+	
+	/** The file where the HTML comparison is saved */
+	public static final String OUTPUT = "comparison.html";
+	
+	/**
+	 * Compares the current results to the baseline results.
+	 * 
+	 * @param args the baseline results file and, optionally, the current
+	 * results file
+	 * @throws Exception if an exception occurs while reading the results or
+	 * writing the comparison
+	 */
+	public static void main(String[] args) throws Exception {
+		if(args.length < 1 || args.length > 2) {
+			System.err.println("Usage: Compare <baseline results.csv> [current results.csv]");
+			System.exit(2);
+		}
+		File baseline = new File(args[0]);
+		File current = new File(args.length > 1 ? args[1] : "results/results.csv");
+		Comparison comparison = new Comparison(baseline, current);
+		System.out.println(comparison);
+		try(HTMLReportPrinter printer = new HTMLReportPrinter(new File(OUTPUT))) {
+			printer.print(comparison);
+		}
+		if(comparison.getUnmatched() > 0)
+			System.out.println("\nWarning: " + comparison.getUnmatched() + " runs appeared in only one set of results and were not compared.");
+		if(comparison.getRegressions() > 0) {
+			System.out.println("\n" + comparison.getRegressions() + " regressions found:");
+			for(Table.Row row : comparison.regressions.rows)
+				if(row.get(Comparison.REGRESSIONS_REASON).get() != null)
+					System.out.println("  " + row.get(Comparison.REGRESSIONS_PLANNER).get() + " on " + row.get(Comparison.REGRESSIONS_PROBLEM).get() + ": " + row.get(Comparison.REGRESSIONS_REASON).get());
+			System.exit(1);
+		}
+		else
+			System.out.println("\nNo regressions found.");
+	}
+	
+	/**
+	 * A private constructor means this class cannot be instantiated.
+	 */
+	private Compare() {}
+}
\ No newline at end of file
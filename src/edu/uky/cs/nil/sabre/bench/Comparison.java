@@ -0,0 +1,290 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A comparison matches the runs in two {@link Report#results results tables}
+ * that were {@link CSVReportPrinter saved as CSV files}, such as the results
+ * checked in with the benchmarks and the results of a new run, to find
+ * performance regressions. Runs are matched by problem, planner, and run
+ * number, and each planner's runs on each problem become one row of the
+ * {@link #regressions regressions table}.
+ * <p>
+ * For the matched runs that both result sets solved, the ratios of nodes
+ * visited and time (current divided by baseline, with values less than 1
+ * counted as 1) are summarized by their geometric mean, and whether the
+ * change is real is tested with the Wilcoxon signed-rank test from a {@link
+ * PairedTest paired test}. A group is flagged as a regression if a run the
+ * baseline solved was not solved in the current results, or if nodes visited
+ * or time grew by more than {@link #THRESHOLD} with a p-value less than {@link
+ * #ALPHA}.
+ * 
+ * @author Stephen G. Ware
+ */
+public class Comparison {
+	
+	/**
+	 * The p-value below which a change in nodes visited or time is considered
+	 * significant
+	 */
+	public static final double ALPHA = 0.05;
+	
+	/**
+	 * The smallest ratio of current to baseline nodes visited or time that is
+	 * considered a slowdown, so that significant but negligible changes are
+	 * not flagged
+	 */
+	public static final double THRESHOLD = 1.1;
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the name
+	 * of the problem
+	 */
+	public static final String REGRESSIONS_PROBLEM = Report.RESULTS_PROBLEM;
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the name
+	 * of the planner
+	 */
+	public static final String REGRESSIONS_PLANNER = Report.RESULTS_PLANNER;
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * number of runs that appear in both result sets
+	 */
+	public static final String REGRESSIONS_PAIRS = "Matched Runs";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * number of matched runs solved in the baseline results
+	 */
+	public static final String REGRESSIONS_BASELINE_SOLVED = "Baseline Solved";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * number of matched runs solved in the current results
+	 */
+	public static final String REGRESSIONS_CURRENT_SOLVED = "Current Solved";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * number of matched runs solved in the baseline but not the current
+	 * results
+	 */
+	public static final String REGRESSIONS_LOST = "Lost Solves";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * number of matched runs solved in the current but not the baseline
+	 * results
+	 */
+	public static final String REGRESSIONS_GAINED = "Gained Solves";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * geometric mean ratio of current to baseline nodes visited on runs both
+	 * solved
+	 */
+	public static final String REGRESSIONS_VISITED_RATIO = "Nodes Visited Ratio";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * {@link PairedTest#wilcoxon Wilcoxon p-value} of the change in nodes
+	 * visited
+	 */
+	public static final String REGRESSIONS_VISITED_P = "Nodes Visited p-value";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * geometric mean ratio of current to baseline time on runs both solved
+	 */
+	public static final String REGRESSIONS_TIME_RATIO = "Time Ratio";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * {@link PairedTest#wilcoxon Wilcoxon p-value} of the change in time
+	 */
+	public static final String REGRESSIONS_TIME_P = "Time p-value";
+	
+	/**
+	 * Column label in the {@link #regressions regressions table} for the
+	 * reasons the group was flagged as a regression, or null if it was not
+	 */
+	public static final String REGRESSIONS_REASON = "Regression";
+	
+	/**
+	 * A run that appears in both result sets.
+	 */
+	private static final class Run {
+		
+		/** The row for the run in the baseline results */
+		public final Map<String, Object> before;
+		
+		/** The row for the run in the current results */
+		public final Map<String, Object> after;
+		
+		public Run(Map<String, Object> before, Map<String, Object> after) {
+			this.before = before;
+			this.after = after;
+		}
+	}
+	
+	/** The file the baseline results were read from */
+	public final File baseline;
+	
+	/** The file the current results were read from */
+	public final File current;
+	
+	/**
+	 * Compares each planner's matched runs on each problem, in the order they
+	 * appear in the baseline results
+	 */
+	public final Table regressions = new Table();
+	
+	/** The number of runs that appear in only one of the result sets */
+	private int unmatched = 0;
+	
+	/** The number of rows flagged as regressions */
+	private int flagged = 0;
+	
+	/**
+	 * Reads two results tables and compares them.
+	 * 
+	 * @param baseline a CSV file with the baseline results
+	 * @param current a CSV file with the current results
+	 * @throws IOException if either file cannot be read
+	 */
+	public Comparison(File baseline, File current) throws IOException {
+		this.baseline = baseline;
+		this.current = current;
+		List<Map<String, Object>> before;
+		try(CSVTableReader reader = new CSVTableReader(baseline)) {
+			before = reader.readRows();
+		}
+		List<Map<String, Object>> after;
+		try(CSVTableReader reader = new CSVTableReader(current)) {
+			after = reader.readRows();
+		}
+		regressions.addColumn(REGRESSIONS_PROBLEM, String.class);
+		regressions.addColumn(REGRESSIONS_PLANNER, String.class);
+		regressions.addColumn(REGRESSIONS_PAIRS, Integer.class);
+		regressions.addColumn(REGRESSIONS_BASELINE_SOLVED, Integer.class);
+		regressions.addColumn(REGRESSIONS_CURRENT_SOLVED, Integer.class);
+		regressions.addColumn(REGRESSIONS_LOST, Integer.class);
+		regressions.addColumn(REGRESSIONS_GAINED, Integer.class);
+		regressions.addColumn(REGRESSIONS_VISITED_RATIO, Double.class);
+		regressions.addColumn(REGRESSIONS_VISITED_P, Double.class);
+		regressions.addColumn(REGRESSIONS_TIME_RATIO, Double.class);
+		regressions.addColumn(REGRESSIONS_TIME_P, Double.class);
+		regressions.addColumn(REGRESSIONS_REASON, String.class);
+		// Match runs by problem, planner, and run number.
+		LinkedHashMap<List<Object>, Map<String, Object>> runs = new LinkedHashMap<>();
+		for(Map<String, Object> row : after)
+			runs.put(getKey(row), row);
+		LinkedHashMap<List<Object>, ArrayList<Run>> groups = new LinkedHashMap<>();
+		for(Map<String, Object> row : before) {
+			List<Object> key = getKey(row);
+			Map<String, Object> match = runs.remove(key);
+			if(match == null)
+				unmatched++;
+			else
+				groups.computeIfAbsent(key.subList(0, 2), group -> new ArrayList<>()).add(new Run(row, match));
+		}
+		unmatched += runs.size();
+		for(Map.Entry<List<Object>, ArrayList<Run>> group : groups.entrySet())
+			compare(group.getKey(), group.getValue());
+	}
+	
+	private static final List<Object> getKey(Map<String, Object> row) {
+		return List.of(row.get(Report.RESULTS_PROBLEM), row.get(Report.RESULTS_PLANNER), row.get(Report.RESULTS_RUN));
+	}
+	
+	private void compare(List<Object> key, List<Run> pairs) {
+		int baselineSolved = 0;
+		int currentSolved = 0;
+		int lost = 0;
+		int gained = 0;
+		ArrayList<Run> solved = new ArrayList<>();
+		for(Run pair : pairs) {
+			boolean before = (Boolean) pair.before.get(Report.RESULTS_SUCCESS);
+			boolean after = (Boolean) pair.after.get(Report.RESULTS_SUCCESS);
+			if(before)
+				baselineSolved++;
+			if(after)
+				currentSolved++;
+			if(before && !after)
+				lost++;
+			else if(!before && after)
+				gained++;
+			else if(before && after)
+				solved.add(pair);
+		}
+		regressions.addRow(key);
+		regressions.set(key, REGRESSIONS_PROBLEM, key.get(0));
+		regressions.set(key, REGRESSIONS_PLANNER, key.get(1));
+		regressions.set(key, REGRESSIONS_PAIRS, pairs.size());
+		regressions.set(key, REGRESSIONS_BASELINE_SOLVED, baselineSolved);
+		regressions.set(key, REGRESSIONS_CURRENT_SOLVED, currentSolved);
+		regressions.set(key, REGRESSIONS_LOST, lost);
+		regressions.set(key, REGRESSIONS_GAINED, gained);
+		ArrayList<String> reasons = new ArrayList<>();
+		if(lost > 0)
+			reasons.add("lost solves");
+		if(!solved.isEmpty()) {
+			if(compare(key, solved, Report.RESULTS_VISITED, REGRESSIONS_VISITED_RATIO, REGRESSIONS_VISITED_P))
+				reasons.add("more nodes visited");
+			if(compare(key, solved, Report.RESULTS_TIME, REGRESSIONS_TIME_RATIO, REGRESSIONS_TIME_P))
+				reasons.add("slower");
+		}
+		if(!reasons.isEmpty()) {
+			regressions.set(key, REGRESSIONS_REASON, String.join(", ", reasons));
+			flagged++;
+		}
+	}
+	
+	private boolean compare(List<Object> key, List<Run> pairs, String column, String ratioColumn, String pColumn) {
+		double[] before = new double[pairs.size()];
+		double[] after = new double[pairs.size()];
+		double logs = 0;
+		for(int i=0; i<pairs.size(); i++) {
+			before[i] = Math.max(1, ((Number) pairs.get(i).before.get(column)).doubleValue());
+			after[i] = Math.max(1, ((Number) pairs.get(i).after.get(column)).doubleValue());
+			logs += Math.log(after[i] / before[i]);
+		}
+		double ratio = Math.exp(logs / pairs.size());
+		PairedTest test = new PairedTest(before, after);
+		regressions.set(key, ratioColumn, ratio);
+		regressions.set(key, pColumn, test.wilcoxon);
+		return ratio > THRESHOLD && test.wilcoxon < ALPHA;
+	}
+	
+	@Override
+	public String toString() {
+		return regressions.toString();
+	}
+	
+	/**
+	 * Returns the number of runs that appear in only one of the result sets
+	 * and so could not be compared.
+	 * 
+	 * @return the number of unmatched runs
+	 */
+	public int getUnmatched() {
+		return unmatched;
+	}
+	
+	/**
+	 * Returns the number of rows in the {@link #regressions regressions table}
+	 * that were flagged as regressions.
+	 * 
+	 * @return the number of regressions
+	 */
+	public int getRegressions() {
+		return flagged;
+	}
+}
\ No newline at end of file
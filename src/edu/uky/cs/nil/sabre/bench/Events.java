@@ -0,0 +1,196 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.ParseException;
+
+import jdk.jfr.Category;
+import jdk.jfr.Configuration;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+/**
+ * Custom <a href="https://docs.oracle.com/en/java/javase/17/jfapi/">Java
+ * Flight Recorder</a> events that mark the lifecycle of a benchmark: when each
+ * {@link TestSuite.Test test} runs, when each {@link Phase phase} of loading
+ * a problem or preparing a test happens, and when each planner attempts to
+ * verify a known solution. Every event records the problem and planner it
+ * belongs to, so samples taken during a recording (such as method profiling
+ * samples used to draw flame graphs) can be filtered to one problem or planner
+ * with standard JDK tools like {@code jfr} and JDK Mission Control by
+ * matching them to the event that was active on the same thread at the same
+ * time.
+ * <p>
+ * Events cost almost nothing when no recording is running. A recording can be
+ * started automatically while the tests run by setting {@link Main#RECORD} to
+ * true.
+ * 
+ * @author Stephen G. Ware
+ */
+public final class Events {
+	
+	/** The category all benchmark events belong to */
+	private static final String CATEGORY = "Sabre Benchmarks";
+	
+	/**
+	 * The name of the built-in JFR configuration used for recordings, which
+	 * samples methods often enough to draw flame graphs
+	 */
+	public static final String CONFIGURATION = "profile";
+	
+	/**
+	 * An event that spans one {@link TestSuite.Test test}, from when its search
+	 * began to be created until the search finished.
+	 */
+	@Name("edu.uky.cs.nil.sabre.bench.Test")
+	@Label("Test")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	@Description("One run of a planner on a benchmark problem")
+	public static final class TestEvent extends Event {
+		
+		/** The name of the benchmark problem */
+		@Label("Problem")
+		public String problem;
+		
+		/** The name of the planner */
+		@Label("Planner")
+		public String planner;
+		
+		/** The number of times the planner has attempted the problem */
+		@Label("Run")
+		public int run;
+		
+		/** Whether the planner solved the problem */
+		@Label("Success")
+		public boolean success;
+		
+		/** The number of nodes the search visited */
+		@Label("Nodes Visited")
+		public long visited;
+		
+		/** The number of nodes the search generated */
+		@Label("Nodes Generated")
+		public long generated;
+		
+		/**
+		 * Constructs a new test event.
+		 * 
+		 * @param test the test the event describes
+		 */
+		public TestEvent(TestSuite.Test test) {
+			this.problem = test.problem.name;
+			this.planner = test.planner.name;
+			this.run = test.run;
+		}
+	}
+	
+	/**
+	 * An event that spans one {@link Phase phase} timed by a {@link PhaseTimer
+	 * phase timer}.
+	 */
+	@Name("edu.uky.cs.nil.sabre.bench.Phase")
+	@Label("Phase")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	@Description("One phase of loading a problem or running a test")
+	public static final class PhaseEvent extends Event {
+		
+		/** The name of the phase */
+		@Label("Phase")
+		public String phase;
+		
+		/** The name of the benchmark problem, if known */
+		@Label("Problem")
+		public String problem;
+		
+		/** The name of the planner, if known */
+		@Label("Planner")
+		public String planner;
+		
+		/** The number of times the planner has attempted the problem, or 0 */
+		@Label("Run")
+		public int run;
+		
+		/**
+		 * Constructs a new phase event.
+		 * 
+		 * @param phase the phase
+		 * @param problem the name of the problem, or null
+		 * @param planner the name of the planner, or null
+		 * @param run the run number, or 0
+		 */
+		public PhaseEvent(Phase phase, String problem, String planner, int run) {
+			this.phase = phase.toString();
+			this.problem = problem;
+			this.planner = planner;
+			this.run = run;
+		}
+	}
+	
+	/**
+	 * An event that spans one attempt by a planner to verify that it can find
+	 * a known solution to a problem.
+	 */
+	@Name("edu.uky.cs.nil.sabre.bench.Verification")
+	@Label("Verification")
+	@Category(CATEGORY)
+	@StackTrace(false)
+	@Description("An attempt by a planner to find a known solution to a problem")
+	public static final class VerificationEvent extends Event {
+		
+		/** The name of the benchmark problem */
+		@Label("Problem")
+		public String problem;
+		
+		/** The name of the planner */
+		@Label("Planner")
+		public String planner;
+		
+		/** Whether the planner found the known solution */
+		@Label("Success")
+		public boolean success;
+		
+		/**
+		 * Constructs a new verification event.
+		 * 
+		 * @param problem the name of the problem
+		 * @param planner the name of the planner
+		 */
+		public VerificationEvent(String problem, String planner) {
+			this.problem = problem;
+			this.planner = planner;
+		}
+	}
+	
+	private Events() {
+		// Empty
+	}
+	
+	/**
+	 * Starts a new flight recording with the {@link #CONFIGURATION default
+	 * profiling configuration} and all benchmark events enabled. The recording
+	 * will be written to the given file when it is {@link Recording#stop()
+	 * stopped}.
+	 * 
+	 * @param file the file the recording will be written to
+	 * @return the recording, which has been started
+	 * @throws IOException if the configuration cannot be read or the file
+	 * cannot be written
+	 * @throws ParseException if the configuration cannot be parsed
+	 */
+	public static Recording startRecording(File file) throws IOException, ParseException {
+		Recording recording = new Recording(Configuration.getConfiguration(CONFIGURATION));
+		recording.setName(file.getName());
+		recording.enable(TestEvent.class);
+		recording.enable(PhaseEvent.class);
+		recording.enable(VerificationEvent.class);
+		recording.setDestination(file.toPath());
+		recording.start();
+		return recording;
+	}
+}
\ No newline at end of file
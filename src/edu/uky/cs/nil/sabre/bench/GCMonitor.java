@@ -0,0 +1,227 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+
+/**
+ * A garbage collection monitor listens for {@link GarbageCollectorMXBean
+ * garbage collector} notifications while tests are running and records each
+ * {@link Collection collection}. Because all tests share one heap, a
+ * stop-the-world pause triggered by one test also stops every other test
+ * running at the same time, so the monitor can report how much {@link
+ * #getPauseTime(long, long) pause time} overlapped any period, such as the
+ * period when one test was running.
+ * <p>
+ * Times are measured in milliseconds of {@link #getUptime() JVM uptime},
+ * which is the clock garbage collectors use to report when they ran. Some
+ * collectors, such as ZGC and Shenandoah, report concurrent cycles that run
+ * alongside the program separately from their brief pauses; collectors whose
+ * names contain "Cycles" or "Concurrent" are recorded but are not counted as
+ * pauses. Notifications are delivered shortly after each collection ends, so
+ * a collection that ends just before a test ends may occasionally be missed.
+ * <p>
+ * A monitor begins listening when it is constructed and stops when it is
+ * {@link #close() closed}. Its methods are thread safe.
+ * 
+ * @author Stephen G. Ware
+ */
+public class GCMonitor implements NotificationListener, AutoCloseable {
+	
+	/**
+	 * One run of a garbage collector.
+	 */
+	public static final class Collection {
+		
+		/** The name of the garbage collector */
+		public final String name;
+		
+		/** The action the collector performed, such as "end of minor GC" */
+		public final String action;
+		
+		/** The cause of the collection, such as "Allocation Failure" */
+		public final String cause;
+		
+		/** The {@link GCMonitor#getUptime() uptime} when the collection began */
+		public final long start;
+		
+		/** The {@link GCMonitor#getUptime() uptime} when the collection ended */
+		public final long end;
+		
+		/** Whether the collection stopped all application threads */
+		public final boolean pause;
+		
+		/**
+		 * Constructs a new collection.
+		 * 
+		 * @param name the name of the garbage collector
+		 * @param action the action the collector performed
+		 * @param cause the cause of the collection
+		 * @param start the uptime when the collection began
+		 * @param end the uptime when the collection ended
+		 * @param pause whether the collection stopped all application threads
+		 */
+		public Collection(String name, String action, String cause, long start, long end, boolean pause) {
+			this.name = name;
+			this.action = action;
+			this.cause = cause;
+			this.start = start;
+			this.end = end;
+			this.pause = pause;
+		}
+		
+		@Override
+		public String toString() {
+			return name + " (" + action + ", " + cause + "): " + getDuration() + "ms";
+		}
+		
+		/**
+		 * Returns how long the collection took.
+		 * 
+		 * @return the duration in milliseconds
+		 */
+		public long getDuration() {
+			return end - start;
+		}
+	}
+	
+	/** The collectors this monitor is listening to */
+	private final List<NotificationEmitter> emitters = new ArrayList<>();
+	
+	/** Every collection recorded so far, in the order they were reported */
+	private final List<Collection> collections = new ArrayList<>();
+	
+	/**
+	 * The stop-the-world collections recorded so far, sorted by start time so
+	 * that the collections overlapping a period can be found by binary search
+	 */
+	private final ArrayList<Collection> pauses = new ArrayList<>();
+	
+	/** The duration of the longest stop-the-world collection so far */
+	private long longest = 0;
+	
+	/**
+	 * Constructs a new monitor and begins listening to every garbage collector
+	 * that sends notifications.
+	 */
+	public GCMonitor() {
+		for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			if(collector instanceof NotificationEmitter) {
+				NotificationEmitter emitter = (NotificationEmitter) collector;
+				emitter.addNotificationListener(this, null, null);
+				emitters.add(emitter);
+			}
+		}
+	}
+	
+	@Override
+	public void handleNotification(Notification notification, Object handback) {
+		if(!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION))
+			return;
+		GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+		GcInfo gc = info.getGcInfo();
+		String name = info.getGcName();
+		boolean pause = !name.contains("Cycles") && !name.contains("Concurrent");
+		Collection collection = new Collection(name, info.getGcAction(), info.getGcCause(), gc.getStartTime(), gc.getEndTime(), pause);
+		synchronized(collections) {
+			collections.add(collection);
+			if(pause) {
+				pauses.add(search(collection.start), collection);
+				longest = Math.max(longest, collection.getDuration());
+			}
+		}
+	}
+	
+	/**
+	 * Returns the index of the first stop-the-world collection that began at
+	 * or after a given time, or the number of such collections if none did.
+	 * 
+	 * @param time the uptime to search for
+	 * @return the index in the list of pauses
+	 */
+	private int search(long time) {
+		int low = 0;
+		int high = pauses.size();
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(pauses.get(middle).start < time)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		return low;
+	}
+	
+	/**
+	 * Returns every collection recorded so far, in the order they were
+	 * reported.
+	 * 
+	 * @return a list of collections
+	 */
+	public List<Collection> getCollections() {
+		synchronized(collections) {
+			return new ArrayList<>(collections);
+		}
+	}
+	
+	/**
+	 * Returns the total time that stop-the-world collections overlapped a
+	 * given period. Only the collections that began before the period ended
+	 * and no longer than the longest collection before it began are checked,
+	 * so the cost depends on the length of the period rather than on the
+	 * number of collections recorded since the monitor was constructed.
+	 * 
+	 * @param start the {@link #getUptime() uptime} when the period began
+	 * @param end the {@link #getUptime() uptime} when the period ended
+	 * @return the pause time during the period in milliseconds
+	 */
+	public long getPauseTime(long start, long end) {
+		long total = 0;
+		synchronized(collections) {
+			for(int i=search(end)-1; i>=0; i--) {
+				Collection collection = pauses.get(i);
+				if(collection.start + longest <= start)
+					break;
+				total += Math.max(0, Math.min(end, collection.end) - Math.max(start, collection.start));
+			}
+		}
+		return total;
+	}
+	
+	/**
+	 * Stops listening to garbage collectors.
+	 */
+	@Override
+	public void close() {
+		for(NotificationEmitter emitter : emitters) {
+			try {
+				emitter.removeNotificationListener(this);
+			}
+			catch(ListenerNotFoundException e) {
+				// The listener has already been removed.
+			}
+		}
+		emitters.clear();
+	}
+	
+	/**
+	 * Returns the number of milliseconds since the JVM started, which is the
+	 * clock garbage collectors use to report the start and end of each
+	 * collection.
+	 * 
+	 * @return the JVM uptime in milliseconds
+	 */
+	public static long getUptime() {
+		return ManagementFactory.getRuntimeMXBean().getUptime();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.uky.cs.nil.sabre.io.ParseException;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * A {@link Benchmark benchmark} whose problem is generated from a few size
+ * parameters rather than written by hand, so that a family of problems can
+ * show how planners scale as a problem grows. Generated problems are modeled
+ * on {@code treasure}: characters start at home and travel to the places where
+ * items are, take them, and may give or steal them from each other.
+ * <p>
+ * Each problem has a number of {@link #characters characters}, a number of
+ * {@link #items items} (each of which starts at its own place, so every item
+ * adds two entities), the first few of the four {@link #ACTIONS action
+ * templates}, and beliefs about where the items are {@link #nesting nested} to
+ * a given depth. The first character wants the first item, and that is also
+ * the author's goal; every other character wants the item with the same
+ * number, if there is one. Each other character does not know where one item
+ * is, and the characters' beliefs about each other's beliefs are nested up to
+ * the given depth. The shortest solution is always for the first character to
+ * travel to the first item's place and take it, but larger problems have many
+ * more ground actions and fluents to search through.
+ * <p>
+ * The problem is written to a file in {@code problems/generated} when it is
+ * {@link #load(Status) loaded}. Generated problems do not have example
+ * solutions, so they cannot be verified before the tests run.
+ * 
+ * @author Stephen G. Ware
+ */
+public class GeneratedBenchmark extends Benchmark {
+	
+	/**
+	 * The names of the action templates that may be included, in the order
+	 * they are added; the first two are needed to solve the problem
+	 */
+	public static final String[] ACTIONS = { "travel", "take", "give", "steal" };
+	
+	/** The number of characters */
+	public final int characters;
+	
+	/** The number of items, each of which starts at its own place */
+	public final int items;
+	
+	/** The number of {@link #ACTIONS action templates} */
+	public final int actions;
+	
+	/** The deepest nesting of beliefs about where an item is */
+	public final int nesting;
+	
+	/**
+	 * Constructs a new generated benchmark. The author and character temporal
+	 * limits are 3, which allows one more action than the shortest solution,
+	 * and the epistemic limit is one more than the belief nesting.
+	 * 
+	 * @param characters the number of characters, at least 1
+	 * @param items the number of items, at least 1
+	 * @param actions the number of action templates, between 2 and the number
+	 * of {@link #ACTIONS possible templates}
+	 * @param nesting the depth of nested beliefs, at least 0, and 0 if there
+	 * is only one character
+	 * @throws IllegalArgumentException if a parameter is out of range
+	 */
+	public GeneratedBenchmark(int characters, int items, int actions, int nesting) {
+		super(getName(characters, items, actions, nesting), "generated/" + getName(characters, items, actions, nesting), 1, 3, 3, nesting + 1);
+		if(characters < 1)
+			throw new IllegalArgumentException("A generated problem must have at least 1 character.");
+		else if(items < 1)
+			throw new IllegalArgumentException("A generated problem must have at least 1 item.");
+		else if(actions < 2 || actions > ACTIONS.length)
+			throw new IllegalArgumentException("A generated problem must have between 2 and " + ACTIONS.length + " action templates.");
+		else if(nesting < 0 || (characters == 1 && nesting > 0))
+			throw new IllegalArgumentException("A generated problem must have at least 2 characters to nest beliefs.");
+		this.characters = characters;
+		this.items = items;
+		this.actions = actions;
+		this.nesting = nesting;
+	}
+	
+	private static final String getName(int characters, int items, int actions, int nesting) {
+		return "generated_c" + characters + "_i" + items + "_a" + actions + "_n" + nesting;
+	}
+	
+	/**
+	 * Writes the generated problem to its file in {@code problems/generated}
+	 * and then parses it.
+	 * 
+	 * @param status a status to update while parsing
+	 * @throws IOException if an error occurs when writing or reading the
+	 * problem
+	 * @throws ParseException if the problem cannot be parsed
+	 */
+	@Override
+	public void load(Status status) throws IOException, ParseException {
+		File file = new File("problems/generated/" + name + ".txt");
+		file.getParentFile().mkdirs();
+		try(BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+			writer.write(toSabre());
+		}
+		super.load(status);
+	}
+	
+	/**
+	 * Returns the generated problem in the Sabre problem format.
+	 * 
+	 * @return the text of the problem
+	 */
+	public String toSabre() {
+		StringBuilder string = new StringBuilder();
+		string.append("/**\n * Generated problem with " + characters + " characters, " + items + " items, " + actions + " action templates, and beliefs nested " + nesting + " deep.\n */\n\n");
+		string.append("type location;\ntype character : location;\ntype place : location;\ntype item;\n\n");
+		for(int c=1; c<=characters; c++)
+			string.append("entity " + character(c) + " : character;\n");
+		string.append("entity Home : place;\n");
+		for(int i=1; i<=items; i++)
+			string.append("entity " + place(i) + " : place;\n");
+		for(int i=1; i<=items; i++)
+			string.append("entity " + item(i) + " : item;\n");
+		string.append("\nproperty at(character : character) : place;\nproperty at(item : item) : location;\n\n");
+		for(int c=1; c<=characters; c++)
+			string.append("at(" + character(c) + ") = Home;\n");
+		for(int i=1; i<=items; i++)
+			string.append("at(" + item(i) + ") = " + place(i) + ";\n");
+		// Each item is unknown to one other character, and beliefs about that
+		// character's beliefs alternate with the first character's.
+		for(int d=1; d<=nesting; d++) {
+			for(int i=1; i<=items; i++) {
+				int other = 2 + (i - 1) % (characters - 1);
+				String belief = "at(" + item(i) + ") = ?";
+				for(int k=0; k<d; k++)
+					belief = "believes(" + character(k % 2 == 0 ? other : 1) + ", " + belief + ")";
+				string.append(belief + ";\n");
+			}
+		}
+		string.append("\naction travel(character : character, from : place, to : place) {\n\tprecondition:\n\t\tfrom != to &\n\t\tat(character) == from;\n\teffect:\n\t\tat(character) = to;\n\tconsenting: character;\n\tobserving(c : character): at(c) == from | at(c) == to;\n};\n");
+		string.append("\naction take(character : character, item : item, place : place) {\n\tprecondition:\n\t\tat(character) == place &\n\t\tat(item) == place;\n\teffect:\n\t\tat(item) = character;\n\tconsenting: character;\n\tobserving(c : character): at(c) == place;\n};\n");
+		if(actions > 2)
+			string.append("\naction give(giver : character, receiver : character, item : item, place : place) {\n\tprecondition:\n\t\tgiver != receiver &\n\t\tat(giver) == place &\n\t\tat(receiver) == place &\n\t\tat(item) == giver;\n\teffect:\n\t\tat(item) = receiver;\n\tconsenting: giver;\n\tobserving(c : character): at(c) == place;\n};\n");
+		if(actions > 3)
+			string.append("\naction steal(thief : character, victim : character, item : item, place : place) {\n\tprecondition:\n\t\tthief != victim &\n\t\tat(thief) == place &\n\t\tat(victim) == place &\n\t\tat(item) == victim;\n\teffect:\n\t\tat(item) = thief;\n\tconsenting: thief;\n\tobserving(c : character): at(c) == place;\n};\n");
+		string.append("\nutility(): at(" + item(1) + ") == " + character(1) + ";\n");
+		for(int c=1; c<=characters; c++)
+			if(c <= items)
+				string.append("\nutility(" + character(c) + "): at(" + item(c) + ") == " + character(c) + ";\n");
+		return string.toString();
+	}
+	
+	private static final String character(int number) {
+		return "C" + number;
+	}
+	
+	private static final String place(int number) {
+		return "P" + number;
+	}
+	
+	private static final String item(int number) {
+		return "I" + number;
+	}
+	
+	/**
+	 * Returns a sweep of generated problems that starts from a base problem
+	 * with 2 characters, 2 items, all 4 action templates, and beliefs nested 1
+	 * deep, and varies one parameter at a time: 2 to 5 characters, 1 to 5
+	 * items, 2 to 4 action templates, and beliefs nested 0 to 3 deep. The base
+	 * problem is included only once.
+	 * 
+	 * @return a list of generated benchmark problems
+	 */
+	public static List<Benchmark> getSweep() {
+		ArrayList<Benchmark> list = new ArrayList<>();
+		list.add(new GeneratedBenchmark(2, 2, 4, 1));
+		for(int characters=3; characters<=5; characters++)
+			list.add(new GeneratedBenchmark(characters, 2, 4, 1));
+		for(int items=1; items<=5; items++)
+			if(items != 2)
+				list.add(new GeneratedBenchmark(2, items, 4, 1));
+		for(int actions=2; actions<=3; actions++)
+			list.add(new GeneratedBenchmark(2, 2, actions, 1));
+		for(int nesting=0; nesting<=3; nesting++)
+			if(nesting != 1)
+				list.add(new GeneratedBenchmark(2, 2, 4, nesting));
+		return list;
+	}
+}
\ No newline at end of file
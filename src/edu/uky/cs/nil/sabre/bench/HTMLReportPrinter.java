@@ -9,6 +9,10 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import edu.uky.cs.nil.sabre.search.Planner;
@@ -29,6 +33,21 @@ public class HTMLReportPrinter implements ReportPrinter {
 	/** The format to use when writing a date and time */
 	public static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("MMMM dd, yyyy 'at' HH:mm:ss z");
 	
+	/** The width of a chart in pixels */
+	public static final int CHART_WIDTH = 800;
+	
+	/** The height of a chart in pixels */
+	public static final int CHART_HEIGHT = 400;
+	
+	/** The space around the plot area of a chart for axes and labels */
+	private static final int LEFT = 70, RIGHT = 170, TOP = 20, BOTTOM = 50;
+	
+	/**
+	 * The colors of the lines on a chart; if there are more lines than colors,
+	 * the colors repeat with dashed lines
+	 */
+	private static final String[] COLORS = { "#1f77b4", "#ff7f0e", "#2ca02c", "#d62728", "#9467bd", "#8c564b", "#e377c2", "#7f7f7f", "#bcbd22", "#17becf" };
+	
 	private final Writer writer;
 	
 	/**
@@ -55,29 +74,20 @@ public class HTMLReportPrinter implements ReportPrinter {
 	@SuppressWarnings("unused")
 	@Override
 	public void print(Report report) throws IOException {
-		print("<!DOCTYPE html>\n");
-		print("<html lang=\"en\">\n");
-		print("\t<head>\n");
-		print("\t\t<title>Sabre Benchmark Results</title>\n");
-		print("\t\t<meta charset=\"utf-8\">\n");
-		print("\t\t<style>\n");
-		print("\t\t\ttable, th, td { border: 1px solid black; padding: 0em 0.5em; }\n");
-		print("\t\t\ttable { border-collapse: collapse; font-family: monospace; }\n");
-		print("\t\t\ttr:nth-child(odd) { background-color: lightgray; }\n");
-		print("\t\t\t.text { text-align: left; }\n");
-		print("\t\t\t.number { text-align: right; }\n");
-		print("\t\t</style>\n");
-		print("\t</head>\n");
-		print("\t<body>\n");
-		print("\t\t<h1>Sabre Benchmark Results</h1>\n");
+		printHead("Sabre Benchmark Results");
 		print("\t\t<p>This report describes benchmark tests for " + edu.uky.cs.nil.sabre.Settings.TITLE + " version " + edu.uky.cs.nil.sabre.Settings.VERSION_STRING + " by " + edu.uky.cs.nil.sabre.Settings.AUTHORS + ".</p>\n");
 		print("\t\t<p>" + report.planners.rows.size() + " planners were tested on " + report.problems.rows.size() + " problems");
-		if(Main.RUNS > 1) {
+		if(Main.ADAPTIVE) {
+			print(". Each test was repeated between " + Math.min(Main.MIN_RUNS, Main.RUNS) + " and " + Main.RUNS + " times, stopping once the " + Math.round(Main.CONFIDENCE * 100) + "% confidence intervals of its median nodes visited and median time were no wider than " + Math.round(Main.TARGET_WIDTH * 100) + "% of the median, or once all of its first runs failed or " + Main.MIN_RUNS + " of its runs failed for the same reason");
+			if(Main.SHUFFLE)
+				print(", and the order of actions was shuffled each time");
+		}
+		else if(Main.RUNS > 1) {
 			print(". Each test was repeated " + Main.RUNS + " times");
 			if(Main.SHUFFLE)
 				print(", and the order of actions was shuffled each time");
 		}
-		int total = report.problems.rows.size() * report.planners.rows.size() * Main.RUNS;
+		int total = Main.ADAPTIVE ? report.results.rows.size() : report.problems.rows.size() * report.planners.rows.size() * Main.RUNS;
 		print(", for a total of " + total + " tests.</p>\n");
 		print("\t\t<p>");
 		if(Main.SEARCH_LIMIT == Planner.UNLIMITED_NODES)
@@ -103,23 +113,124 @@ public class HTMLReportPrinter implements ReportPrinter {
 		print(" and ended on ");
 		print(toDateTime(report.getEnd()));
 		print("; they took " + toDuration(report.getEnd() - report.getStart()) + ". ");
-		print("Tests ran on " + Main.THREADS + " threads representing a total of " + toDuration(report.getComputeTime()) + " of computation time.</p>\n");
+		print("Tests ran on " + Main.THREADS + " threads representing a total of " + toDuration(report.getComputeTime()) + " of computation time. ");
+		if(report.getWarmups() > 0)
+			print("Before the tests, " + report.getWarmups() + " unrecorded warmup searches, limited to " + Main.WARMUP_LIMIT + " nodes visited each, were run in " + toDuration(report.getWarmupTime()) + " to load classes and compile code so that the first run of each test is not slowed by startup costs.</p>\n");
+		else
+			print("No warmup searches were run, so the first run of each test includes class loading and compilation costs.</p>\n");
 		print("\t\t<p>This report was automatically generated by the <a href=\"" + Settings.URL + "\">" + Settings.TITLE + "</a> version " + Settings.VERSION_STRING + " by " + Settings.AUTHORS + ".</p>\n");
 		print("\t\t<h2>Problems</h2>\n");
-		print("\t\t<p>Information on the test problems is given in the table below. It shows the number of elements in each problem, including the number of fluent, action, and trigger templates in the original problem and the number of ground fluents, actions, and triggers created from those templates after the problem was compiled and simplified. It gives the problem goal and limits on search. Problems are ranked from easiest to hardest based on how many times they were solved, average nodes visited to solve, average nodes generated to solve, and average time spent to solve.</p>\n");
+		print("\t\t<p>Information on the test problems is given in the table below. It shows the number of elements in each problem, including the number of fluent, action, and trigger templates in the original problem and the number of ground fluents, actions, and triggers created from those templates after the problem was compiled and simplified. It gives the problem goal and limits on search. Problems are ranked from easiest to hardest based on how many times they were solved, average nodes visited to solve, average nodes generated to solve, and average time spent to solve. ");
+		print("Parse time is the time spent reading each problem once before testing. The total compile, shuffle, setup, and search times add up the time every test of the problem spent in each phase, and the preprocessing share is the fraction of that time spent preparing searches rather than searching.</p>\n");
 		print(report.problems);
 		print("\t\t<h2>Planners</h2>\n");
-		print("\t\t<p>Information on the planners tested is given in the table below. Planners are ranked from best performing to worst performing based on number of problems solved, nodes visited, nodes generated, and time spent.</p>\n");
+		print("\t\t<p>Information on the planners tested is given in the table below. Planners are ranked from best performing to worst performing based on number of problems solved, nodes visited, nodes generated, and time spent. ");
+		print("Coverage is the fraction of all runs that were solved. ");
+		print("The time and node scores are calculated as in the International Planning Competition: on each problem, a run that took time T (or visited T nodes) scores 1 / (1 + log<sub>10</sub>(T / T*)), where T* is the best result of any planner on that problem, and failed runs score 0; the score on each problem is averaged over runs, and scores are summed over problems. ");
+		print("PAR-" + Main.PAR + " is the average time per run when each failed run counts as " + Main.PAR + " times the time limit, or the longest time of any test if there is no limit. ");
+		print("Speedup is the geometric mean of " + Main.BASELINE + "'s time divided by the planner's time over the runs both solved. ");
+		print("Allocated bytes per node visited is the total memory allocated by the threads running a planner's tests divided by the total nodes they visited, which shows how much garbage each planner creates. ");
+		print("When a planner's heuristic is profiled, heuristic share is the fraction of its search time spent evaluating the heuristic.</p>\n");
 		print(report.planners);
+		print("\t\t<h2>Performance</h2>\n");
+		print("\t\t<p>The charts below show how many runs each planner solved within a given number of nodes visited, number of nodes generated, and amount of time. ");
+		print("Lines that rise higher and further to the left are better. The horizontal axes use a logarithmic scale, and values less than 1 are drawn at 1.</p>\n");
+		print(report.cactus, Report.CACTUS_VISITED);
+		print(report.cactus, Report.CACTUS_GENERATED);
+		print(report.cactus, Report.CACTUS_TIME);
 		print("\t\t<h2>Results</h2>\n");
-		print("\t\t<p>The performance of each planner on each problem is summarized in the table below.</p>\n");
+		print("\t\t<p>The performance of each planner on each problem is summarized in the table below. ");
+		print("Because search costs are often dominated by a few very hard runs, medians and 90th and 99th percentiles are given alongside averages. ");
+		print("Percentiles are exact for groups of up to " + QuantileSketch.DEFAULT_CAPACITY + " tests and are estimated with bounded memory for larger groups. ");
+		print("The low and high columns give " + Math.round(Main.CONFIDENCE * 100) + "% percentile bootstrap confidence intervals for the average and median nodes visited and time, calculated from " + Main.RESAMPLES + " resamples of each planner's runs on each problem with random seed " + Main.SEED + ". ");
+		print("Time is wall clock time, which includes time spent waiting for a processor or memory while " + Main.THREADS + " tests ran in parallel; CPU and user time are measured in nanoseconds for only the thread that ran each test, so they better reflect the cost of the search itself.</p>\n");
 		print(report.summary);
-		print("\t\t<p>Full details for each test are given in the table below.</p>\n");
+		print("\t\t<p>Each planner is compared to each other planner in the table below using only the runs of each problem that both planners completed, paired by problem and run number. ");
+		print("Wins and losses count the pairs where the planner visited fewer or more nodes, or took less or more time, than its opponent. ");
+		print("The p-values are two-sided and come from the Wilcoxon signed-rank test, which considers how large each difference is, and the sign test, which considers only which planner did better; small p-values mean the difference is unlikely to be due to chance. ");
+		print("The effect size is the rank-biserial correlation, between -1 and 1, which is positive when the planner tends to do better than its opponent.</p>\n");
+		print(report.comparisons);
+		if(report.scaling.rows.size() > 0) {
+			print("\t\t<h2>Scaling</h2>\n");
+			print("\t\t<p>The problems in the table below were generated from a few sizes: the number of characters, the number of items (each of which starts at its own place), the number of action templates, and how deeply beliefs about where the items are nested. ");
+			print("The charts show how each planner's average nodes visited and time on successful runs grow with the number of ground actions and fluents in each problem after it was compiled and simplified. ");
+			print("Both axes use a logarithmic scale, so a straight line means cost grows as a power of problem size, and a steeper line means a planner scales worse. Problems a planner never solved are left out of its line.</p>\n");
+			print(report.scaling, Report.SCALING_GROUND_ACTIONS, Report.SCALING_AVG_VISITED);
+			print(report.scaling, Report.SCALING_GROUND_ACTIONS, Report.SCALING_AVG_TIME);
+			print(report.scaling, Report.SCALING_GROUND_FLUENTS, Report.SCALING_AVG_TIME);
+			print(report.scaling);
+		}
+		print("\t\t<h2>Garbage Collection</h2>\n");
+		print("\t\t<p>All tests share one heap, so a garbage collection that stops all threads pauses every test running at the time, no matter which test caused it. ");
+		print("The table below summarizes each garbage collector that ran during the tests; the share of duration is the collector's total time divided by the time tests were running. ");
+		print("The GC pause column in the table of full results gives the total stop-the-world pause time that overlapped each test, which is included in its time.</p>\n");
+		print(report.collectors);
+		print("\t\t<h2>Full Results</h2>\n");
+		print("\t\t<p>Full details for each test are given in the table below. ");
+		print("The heuristic columns are only filled in for planners whose heuristics were profiled (see Main.PROFILE_HEURISTICS); call times are estimated from a histogram with power-of-two buckets, and the average and median heuristic values ignore infinite values, which are counted separately. Timing every heuristic call slows the search, so the times of profiled planners should not be compared to times measured without profiling. ");
+		print("The progress of each search was sampled every " + Main.SAMPLE_INTERVAL + " ms; the start, middle, and end rates are the nodes visited per second during the first, middle, and last third of each search, and the max heap used is the most memory in use by all tests at any sample. ");
+		print("A rate that falls while heap use rises suggests memory pressure.");
+		if(Main.PROGRESS_DIRECTORY != null)
+			print(" The full series of samples for each test is saved in " + Main.PROGRESS_DIRECTORY + ".");
+		print("</p>\n");
 		print(report.results);
 		print("\t</body>\n");
 		print("</html>");
 	}
 	
+	/**
+	 * Prints a {@link Comparison comparison} of two sets of results as an HTML
+	 * page with a section that lists the regressions found and a table
+	 * comparing each planner's runs on each problem.
+	 * 
+	 * @param comparison the comparison to print
+	 * @throws IOException if an exception occurs while writing the comparison
+	 */
+	public void print(Comparison comparison) throws IOException {
+		printHead("Sabre Benchmark Comparison");
+		print("\t\t<p>This page compares the results in " + comparison.current + " to the baseline results in " + comparison.baseline + ". ");
+		print("Runs were matched by problem, planner, and run number; " + comparison.getUnmatched() + " runs appeared in only one set of results and were not compared.</p>\n");
+		print("\t\t<h2>Regressions</h2>\n");
+		print("\t\t<p>");
+		if(comparison.getRegressions() == 0)
+			print("No regressions were found.");
+		else
+			print(comparison.getRegressions() + " regressions were found; they are listed below.");
+		print(" A planner regressed on a problem if it failed a run that it solved in the baseline, or if its nodes visited or time on runs solved in both grew by a factor of more than " + Comparison.THRESHOLD + " with a Wilcoxon signed-rank p-value less than " + Comparison.ALPHA + ".</p>\n");
+		if(comparison.getRegressions() > 0) {
+			print("\t\t<ul>\n");
+			for(Table.Row row : comparison.regressions.rows) {
+				Object reason = row.get(Comparison.REGRESSIONS_REASON).get();
+				if(reason != null)
+					print("\t\t\t<li>" + row.get(Comparison.REGRESSIONS_PLANNER).get() + " on " + row.get(Comparison.REGRESSIONS_PROBLEM).get() + ": " + reason + "</li>\n");
+			}
+			print("\t\t</ul>\n");
+		}
+		print("\t\t<h2>Differences</h2>\n");
+		print("\t\t<p>Each planner's runs on each problem are compared in the table below. Ratios are the geometric mean of the current value divided by the baseline value over the runs solved in both sets of results, with values less than 1 counted as 1, so a ratio above 1 means the current results are worse.</p>\n");
+		print(comparison.regressions);
+		print("\t</body>\n");
+		print("</html>");
+	}
+	
+	private void printHead(String title) throws IOException {
+		print("<!DOCTYPE html>\n");
+		print("<html lang=\"en\">\n");
+		print("\t<head>\n");
+		print("\t\t<title>" + title + "</title>\n");
+		print("\t\t<meta charset=\"utf-8\">\n");
+		print("\t\t<style>\n");
+		print("\t\t\ttable, th, td { border: 1px solid black; padding: 0em 0.5em; }\n");
+		print("\t\t\ttable { border-collapse: collapse; font-family: monospace; }\n");
+		print("\t\t\ttr:nth-child(odd) { background-color: lightgray; }\n");
+		print("\t\t\t.text { text-align: left; }\n");
+		print("\t\t\t.number { text-align: right; }\n");
+		print("\t\t</style>\n");
+		print("\t</head>\n");
+		print("\t<body>\n");
+		print("\t\t<h1>" + title + "</h1>\n");
+	}
+	
 	private void print(Table table) throws IOException {
 		print("\t\t<table>\n");
 		print("\t\t\t<tr>\n");
@@ -134,6 +245,143 @@ public class HTMLReportPrinter implements ReportPrinter {
 		print("\t\t</table>\n");
 	}
 	
+	/**
+	 * Prints an inline SVG cactus plot of one column of the {@link
+	 * Report#cactus cactus table}, with one line for each planner.
+	 * 
+	 * @param cactus the cactus table
+	 * @param column the label of the column to plot on the horizontal axis
+	 * @throws IOException if an exception occurs while writing the chart
+	 */
+	private void print(Table cactus, String column) throws IOException {
+		LinkedHashMap<Object, ArrayList<Long>> lines = new LinkedHashMap<>();
+		long max = 1;
+		int solved = 0;
+		for(Table.Row row : cactus.rows) {
+			long value = Math.max(1, row.get(column).get(Long.class));
+			lines.computeIfAbsent(row.get(Report.CACTUS_PLANNER).get(), planner -> new ArrayList<>()).add(value);
+			max = Math.max(max, value);
+			solved = Math.max(solved, row.get(Report.CACTUS_SOLVED).get(Integer.class));
+		}
+		if(lines.isEmpty())
+			return;
+		int decades = Math.max(1, (int) Math.ceil(Math.log10(max)));
+		double width = CHART_WIDTH - LEFT - RIGHT;
+		double height = CHART_HEIGHT - TOP - BOTTOM;
+		print("\t\t<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + CHART_WIDTH + "\" height=\"" + CHART_HEIGHT + "\" viewBox=\"0 0 " + CHART_WIDTH + " " + CHART_HEIGHT + "\" font-family=\"monospace\" font-size=\"12\">\n");
+		print("\t\t\t<title>" + Report.CACTUS_SOLVED + " by " + column + "</title>\n");
+		// Axes and grid lines
+		for(int i=0; i<=decades; i++) {
+			String x = format(LEFT + width * i / decades);
+			print("\t\t\t<line x1=\"" + x + "\" y1=\"" + TOP + "\" x2=\"" + x + "\" y2=\"" + (TOP + height) + "\" stroke=\"lightgray\"/>\n");
+			print("\t\t\t<text x=\"" + x + "\" y=\"" + (TOP + height + 15) + "\" text-anchor=\"middle\">" + (i <= 4 ? Long.toString((long) Math.pow(10, i)) : "1e" + i) + "</text>\n");
+		}
+		for(int i=0; i<=5; i++) {
+			int k = Math.round(solved * i / 5f);
+			String y = format(TOP + height * (1 - (double) k / Math.max(1, solved)));
+			print("\t\t\t<line x1=\"" + LEFT + "\" y1=\"" + y + "\" x2=\"" + (LEFT + width) + "\" y2=\"" + y + "\" stroke=\"lightgray\"/>\n");
+			print("\t\t\t<text x=\"" + (LEFT - 5) + "\" y=\"" + y + "\" text-anchor=\"end\" dominant-baseline=\"middle\">" + k + "</text>\n");
+		}
+		print("\t\t\t<rect x=\"" + LEFT + "\" y=\"" + TOP + "\" width=\"" + width + "\" height=\"" + height + "\" fill=\"none\" stroke=\"black\"/>\n");
+		print("\t\t\t<text x=\"" + format(LEFT + width / 2) + "\" y=\"" + (CHART_HEIGHT - 10) + "\" text-anchor=\"middle\">" + column + "</text>\n");
+		print("\t\t\t<text transform=\"translate(15 " + format(TOP + height / 2) + ") rotate(-90)\" text-anchor=\"middle\">" + Report.CACTUS_SOLVED + "</text>\n");
+		// One step line and legend entry for each planner
+		int index = 0;
+		for(Map.Entry<Object, ArrayList<Long>> line : lines.entrySet()) {
+			String style = "fill=\"none\" stroke=\"" + COLORS[index % COLORS.length] + "\" stroke-width=\"2\"" + (index >= COLORS.length ? " stroke-dasharray=\"6 3\"" : "");
+			StringBuilder path = new StringBuilder();
+			String previous = null;
+			for(int k=0; k<line.getValue().size(); k++) {
+				String x = format(LEFT + width * Math.log10(line.getValue().get(k)) / decades);
+				if(previous == null)
+					path.append("M " + x + " " + format(TOP + height));
+				else if(!x.equals(previous))
+					path.append(" H " + x);
+				path.append(" V " + format(TOP + height * (1 - (k + 1.0) / solved)));
+				previous = x;
+			}
+			path.append(" H " + format(LEFT + width));
+			print("\t\t\t<path d=\"" + path + "\" " + style + "/>\n");
+			double y = TOP + 10 + 18 * index;
+			print("\t\t\t<line x1=\"" + (LEFT + width + 10) + "\" y1=\"" + format(y) + "\" x2=\"" + (LEFT + width + 35) + "\" y2=\"" + format(y) + "\" " + style + "/>\n");
+			print("\t\t\t<text x=\"" + (LEFT + width + 40) + "\" y=\"" + format(y) + "\" dominant-baseline=\"middle\">" + line.getKey() + "</text>\n");
+			index++;
+		}
+		print("\t\t</svg>\n");
+	}
+	
+	/**
+	 * Prints an inline SVG scaling chart of two columns of the {@link
+	 * Report#scaling scaling table} on logarithmic axes, with one line for
+	 * each planner connecting its points from smallest to largest.
+	 * 
+	 * @param scaling the scaling table
+	 * @param x the label of the column to plot on the horizontal axis
+	 * @param y the label of the column to plot on the vertical axis
+	 * @throws IOException if an exception occurs while writing the chart
+	 */
+	private void print(Table scaling, String x, String y) throws IOException {
+		LinkedHashMap<Object, ArrayList<double[]>> lines = new LinkedHashMap<>();
+		double maxX = 1;
+		double maxY = 1;
+		for(Table.Row row : scaling.rows) {
+			ArrayList<double[]> line = lines.computeIfAbsent(row.get(Report.SCALING_PLANNER).get(), planner -> new ArrayList<>());
+			Object valueX = row.get(x).get();
+			Object valueY = row.get(y).get();
+			if(valueX != null && valueY != null) {
+				double[] point = new double[] { Math.max(1, ((Number) valueX).doubleValue()), Math.max(1, ((Number) valueY).doubleValue()) };
+				line.add(point);
+				maxX = Math.max(maxX, point[0]);
+				maxY = Math.max(maxY, point[1]);
+			}
+		}
+		int decadesX = Math.max(1, (int) Math.ceil(Math.log10(maxX)));
+		int decadesY = Math.max(1, (int) Math.ceil(Math.log10(maxY)));
+		double width = CHART_WIDTH - LEFT - RIGHT;
+		double height = CHART_HEIGHT - TOP - BOTTOM;
+		print("\t\t<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"" + CHART_WIDTH + "\" height=\"" + CHART_HEIGHT + "\" viewBox=\"0 0 " + CHART_WIDTH + " " + CHART_HEIGHT + "\" font-family=\"monospace\" font-size=\"12\">\n");
+		print("\t\t\t<title>" + y + " by " + x + "</title>\n");
+		// Axes and grid lines
+		for(int i=0; i<=decadesX; i++) {
+			String position = format(LEFT + width * i / decadesX);
+			print("\t\t\t<line x1=\"" + position + "\" y1=\"" + TOP + "\" x2=\"" + position + "\" y2=\"" + (TOP + height) + "\" stroke=\"lightgray\"/>\n");
+			print("\t\t\t<text x=\"" + position + "\" y=\"" + (TOP + height + 15) + "\" text-anchor=\"middle\">" + (i <= 4 ? Long.toString((long) Math.pow(10, i)) : "1e" + i) + "</text>\n");
+		}
+		for(int i=0; i<=decadesY; i++) {
+			String position = format(TOP + height * (1 - (double) i / decadesY));
+			print("\t\t\t<line x1=\"" + LEFT + "\" y1=\"" + position + "\" x2=\"" + (LEFT + width) + "\" y2=\"" + position + "\" stroke=\"lightgray\"/>\n");
+			print("\t\t\t<text x=\"" + (LEFT - 5) + "\" y=\"" + position + "\" text-anchor=\"end\" dominant-baseline=\"middle\">" + (i <= 4 ? Long.toString((long) Math.pow(10, i)) : "1e" + i) + "</text>\n");
+		}
+		print("\t\t\t<rect x=\"" + LEFT + "\" y=\"" + TOP + "\" width=\"" + width + "\" height=\"" + height + "\" fill=\"none\" stroke=\"black\"/>\n");
+		print("\t\t\t<text x=\"" + format(LEFT + width / 2) + "\" y=\"" + (CHART_HEIGHT - 10) + "\" text-anchor=\"middle\">" + x + "</text>\n");
+		print("\t\t\t<text transform=\"translate(15 " + format(TOP + height / 2) + ") rotate(-90)\" text-anchor=\"middle\">" + y + "</text>\n");
+		// One line with a marker at each point and a legend entry for each planner
+		int index = 0;
+		for(Map.Entry<Object, ArrayList<double[]>> line : lines.entrySet()) {
+			String color = COLORS[index % COLORS.length];
+			String style = "fill=\"none\" stroke=\"" + color + "\" stroke-width=\"2\"" + (index >= COLORS.length ? " stroke-dasharray=\"6 3\"" : "");
+			line.getValue().sort((p1, p2) -> Double.compare(p1[0], p2[0]));
+			StringBuilder path = new StringBuilder();
+			for(double[] point : line.getValue()) {
+				String px = format(LEFT + width * Math.log10(point[0]) / decadesX);
+				String py = format(TOP + height * (1 - Math.log10(point[1]) / decadesY));
+				path.append((path.length() == 0 ? "M " : " L ") + px + " " + py);
+				print("\t\t\t<circle cx=\"" + px + "\" cy=\"" + py + "\" r=\"3\" fill=\"" + color + "\"/>\n");
+			}
+			if(path.length() > 0)
+				print("\t\t\t<path d=\"" + path + "\" " + style + "/>\n");
+			double legend = TOP + 10 + 18 * index;
+			print("\t\t\t<line x1=\"" + (LEFT + width + 10) + "\" y1=\"" + format(legend) + "\" x2=\"" + (LEFT + width + 35) + "\" y2=\"" + format(legend) + "\" " + style + "/>\n");
+			print("\t\t\t<text x=\"" + (LEFT + width + 40) + "\" y=\"" + format(legend) + "\" dominant-baseline=\"middle\">" + line.getKey() + "</text>\n");
+			index++;
+		}
+		print("\t\t</svg>\n");
+	}
+	
+	private static final String format(double coordinate) {
+		return String.format(Locale.ROOT, "%.1f", coordinate);
+	}
+	
 	private void print(Table.Row row) throws IOException {
 		print("\t\t\t<tr>\n");
 		for(Table.Cell cell : row)
@@ -0,0 +1,282 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import edu.uky.cs.nil.sabre.Settings;
+import edu.uky.cs.nil.sabre.Solution;
+import edu.uky.cs.nil.sabre.SolutionPlan;
+import edu.uky.cs.nil.sabre.comp.CompiledAction;
+import edu.uky.cs.nil.sabre.comp.CompiledProblem;
+import edu.uky.cs.nil.sabre.prog.ProgressionCost;
+import edu.uky.cs.nil.sabre.prog.ProgressionCostFactory;
+import edu.uky.cs.nil.sabre.prog.ProgressionNode;
+import edu.uky.cs.nil.sabre.prog.ProgressionPlanner;
+import edu.uky.cs.nil.sabre.search.Result;
+import edu.uky.cs.nil.sabre.util.Worker;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * Measures how accurate each heuristic used by the {@link Main#getPlanners()
+ * planners} is along the known solutions in the {@code solutions} directory.
+ * For each problem with a known solution and each distinct heuristic, the
+ * first planner that uses the heuristic reproduces the solution using a
+ * {@link VerificationHeuristic verification heuristic}, and the heuristic's
+ * estimate is recorded at each prefix of the author's plan, from the initial
+ * state (depth 0) to the end of the plan.
+ * <p>
+ * The true remaining length at each prefix is taken to be the number of
+ * author actions left in the known solution. A known solution may not be
+ * optimal, so this is an upper bound on the true remaining cost, which means
+ * an estimate higher than it is certainly a violation of admissibility. Each
+ * estimate is compared to the remaining length by its error (estimate minus
+ * remaining length) and its informedness (estimate divided by remaining
+ * length, where 1 is perfect and 0 is no better than blind search). An
+ * infinite estimate on the solution path means the heuristic wrongly judged a
+ * node to be a dead end.
+ * <p>
+ * One table gives every estimate by problem, heuristic, and depth, and another
+ * summarizes each heuristic on each problem. They are printed and saved to
+ * {@code results/accuracy.csv} and {@code results/accuracy_summary.csv}.
+ * 
+ * @author Stephen G. Ware
+ */
+public class HeuristicAccuracy {
+	
+	/** Column label for the name of the problem */
+	public static final String PROBLEM = Report.RESULTS_PROBLEM;
+	
+	/** Column label for the name of the heuristic */
+	public static final String HEURISTIC = Report.PLANNERS_HEURISTIC;
+	
+	/** Column label for the name of the planner that reproduced the solution */
+	public static final String PLANNER = Report.RESULTS_PLANNER;
+	
+	/** Column label for the number of author actions in the prefix */
+	public static final String DEPTH = "Depth";
+	
+	/**
+	 * Column label for the number of author actions left in the known
+	 * solution
+	 */
+	public static final String REMAINING = "Remaining";
+	
+	/** Column label for the heuristic's estimate */
+	public static final String ESTIMATE = "Estimate";
+	
+	/** Column label for the estimate minus the remaining length */
+	public static final String ERROR = "Error";
+	
+	/** Column label for the estimate divided by the remaining length */
+	public static final String INFORMEDNESS = "Informedness";
+	
+	/**
+	 * Column label for whether the estimate is no higher than the remaining
+	 * length
+	 */
+	public static final String ADMISSIBLE = "Admissible?";
+	
+	/** Column label for the number of prefixes whose estimate was recorded */
+	public static final String DEPTHS = "Depths";
+	
+	/** Column label for the mean absolute error of the finite estimates */
+	public static final String MEAN_ERROR = "Mean Absolute Error";
+	
+	/** Column label for the mean informedness of the finite estimates */
+	public static final String MEAN_INFORMEDNESS = "Mean Informedness";
+	
+	/**
+	 * Column label for the number of estimates higher than the remaining
+	 * length
+	 */
+	public static final String VIOLATIONS = "Admissibility Violations";
+	
+	/** Column label for the number of infinite estimates */
+	public static final String DEAD_ENDS = "False Dead Ends";
+	
+	/**
+	 * A {@link ProgressionCostFactory heuristic factory} whose heuristics
+	 * defer to those of {@link #parent another factory} and remember the
+	 * first estimate made at each temporal depth of the author's plan.
+	 */
+	private static final class Recorder implements ProgressionCostFactory {
+		
+		/** Serial version ID */
+		private static final long serialVersionUID = Settings.VERSION_UID;
+		
+		/** The factory for the heuristic being measured */
+		public final ProgressionCostFactory parent;
+		
+		/** The first estimate made at each temporal depth */
+		public final TreeMap<Integer, Double> estimates = new TreeMap<>();
+		
+		public Recorder(ProgressionCostFactory parent) {
+			this.parent = parent;
+		}
+		
+		@Override
+		public String toString() {
+			return parent.toString();
+		}
+		
+		@Override
+		public ProgressionCost getCost(CompiledProblem problem, Status status) {
+			ProgressionCost cost = parent.getCost(problem, status);
+			return new ProgressionCost() {
+				
+				@Override
+				public <N> double evaluate(ProgressionNode<N> node) {
+					double value = cost.evaluate(node);
+					if(node.getEpistemicDepth() == 0)
+						estimates.putIfAbsent(node.getTemporalDepth(), value);
+					return value;
+				}
+			};
+		}
+	}
+	
+	/**
+	 * Measures every heuristic along every known solution, prints the results,
+	 * and saves them to {@code results/accuracy.csv} and {@code
+	 * results/accuracy_summary.csv}.
+	 * 
+	 * @param args not used
+	 * @throws Exception if an exception occurs while the solutions are being
+	 * reproduced
+	 */
+	public static void main(String[] args) throws Exception {
+		Table[] tables = Worker.get(status -> run(status), 1, TimeUnit.MINUTES);
+		System.out.println("\n\n" + tables[0] + "\n\n" + tables[1]);
+		new File("results").mkdirs();
+		try(CSVTablePrinter printer = new CSVTablePrinter(new File("results/accuracy.csv"))) {
+			printer.print(tables[0]);
+		}
+		try(CSVTablePrinter printer = new CSVTablePrinter(new File("results/accuracy_summary.csv"))) {
+			printer.print(tables[1]);
+		}
+	}
+	
+	private static Table[] run(Status status) throws Exception {
+		// Each distinct heuristic is measured once, using the first planner
+		// that uses it.
+		LinkedHashMap<String, ProgressionPlanner> heuristics = new LinkedHashMap<>();
+		for(ProgressionPlanner planner : Main.getPlanners())
+			heuristics.putIfAbsent(planner.getHeuristic().toString(), planner);
+		ArrayList<Object[]> rows = new ArrayList<>();
+		ArrayList<Object[]> summaries = new ArrayList<>();
+		for(Benchmark problem : Main.getProblems()) {
+			problem.load(status);
+			for(Map.Entry<String, ProgressionPlanner> entry : heuristics.entrySet()) {
+				ProgressionPlanner planner = entry.getValue();
+				Solution<CompiledAction> solution = problem.getSolution(planner, status);
+				if(solution == null)
+					break;
+				int length = getLength(solution);
+				ProgressionCostFactory heuristic = planner.getHeuristic();
+				Recorder recorder = new Recorder(heuristic);
+				planner.setHeuristic(new VerificationHeuristic.Factory(recorder, solution));
+				Result<CompiledAction> result;
+				try {
+					result = problem.getSearch(planner, 1, status).get(status);
+				}
+				finally {
+					planner.setHeuristic(heuristic);
+				}
+				if(!result.getSuccess()) {
+					System.out.println("\nWarning: Planner \"" + planner.name + "\" was not able to reproduce the solution to problem \"" + problem.name + "\": " + result.message);
+					continue;
+				}
+				summaries.add(measure(problem.name, entry.getKey(), planner.name, length, recorder.estimates, rows));
+			}
+		}
+		Table table = toTable(
+			new String[] { PROBLEM, HEURISTIC, PLANNER, DEPTH, REMAINING, ESTIMATE, ERROR, INFORMEDNESS, ADMISSIBLE },
+			new Class<?>[] { String.class, String.class, String.class, Integer.class, Integer.class, Double.class, Double.class, Double.class, Boolean.class },
+			rows
+		);
+		Table summary = toTable(
+			new String[] { PROBLEM, HEURISTIC, PLANNER, DEPTHS, MEAN_ERROR, MEAN_INFORMEDNESS, VIOLATIONS, DEAD_ENDS },
+			new Class<?>[] { String.class, String.class, String.class, Integer.class, Double.class, Double.class, Integer.class, Integer.class },
+			summaries
+		);
+		return new Table[] { table, summary };
+	}
+	
+	/**
+	 * Returns the number of actions in the author's plan in a solution, not
+	 * counting the actions in explanations.
+	 * 
+	 * @param solution the solution
+	 * @return the number of author actions
+	 */
+	private static final int getLength(Solution<?> solution) {
+		int length = 0;
+		while(solution instanceof SolutionPlan) {
+			length++;
+			solution = ((SolutionPlan<?>) solution).next();
+		}
+		return length;
+	}
+	
+	private static final Object[] measure(String problem, String heuristic, String planner, int length, Map<Integer, Double> estimates, List<Object[]> rows) {
+		double errors = 0;
+		double informedness = 0;
+		int finite = 0;
+		int informed = 0;
+		int violations = 0;
+		int deadEnds = 0;
+		for(Map.Entry<Integer, Double> entry : estimates.entrySet()) {
+			int remaining = length - entry.getKey();
+			double estimate = entry.getValue();
+			Double error = null;
+			Double ratio = null;
+			if(estimate == Double.POSITIVE_INFINITY)
+				deadEnds++;
+			else {
+				error = estimate - remaining;
+				errors += Math.abs(error);
+				finite++;
+				if(remaining > 0) {
+					ratio = estimate / remaining;
+					informedness += ratio;
+					informed++;
+				}
+			}
+			if(estimate > remaining)
+				violations++;
+			rows.add(new Object[] { problem, heuristic, planner, entry.getKey(), remaining, estimate, error, ratio, estimate <= remaining });
+		}
+		return new Object[] {
+			problem,
+			heuristic,
+			planner,
+			estimates.size(),
+			finite == 0 ? null : errors / finite,
+			informed == 0 ? null : informedness / informed,
+			violations,
+			deadEnds
+		};
+	}
+	
+	private static final Table toTable(String[] columns, Class<?>[] types, List<Object[]> rows) {
+		Table table = new Table();
+		for(int i=0; i<columns.length; i++)
+			table.addColumn(columns[i], types[i]);
+		for(int i=0; i<rows.size(); i++) {
+			table.addRow(i);
+			for(int j=0; j<columns.length; j++)
+				table.set(i, columns[j], rows.get(i)[j]);
+		}
+		return table;
+	}
+	
+	/**
+	 * A private constructor means this class cannot be instantiated.
+	 */
+	private HeuristicAccuracy() {}
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+package edu.uky.cs.nil.sabre.bench;
+
+/**
+ * A histogram counts non-negative integers, such as durations in nanoseconds,
+ * in buckets whose sizes are powers of two. Adding a value takes constant
+ * time and no memory, so a histogram can be updated millions of times during
+ * a search with very little overhead. The {@link #getCount() count}, {@link
+ * #getSum() sum}, and {@link #getMax() maximum} are exact, but {@link
+ * #getQuantile(double) quantiles} are estimated by interpolating within a
+ * bucket, so they are accurate to within a factor of two.
+ * <p>
+ * Bucket 0 counts the value 0, and bucket i (for i from 1 to 63) counts
+ * values from 2^(i-1) to 2^i - 1. Negative values are counted as 0.
+ * Histograms are not thread safe.
+ * 
+ * @author Stephen G. Ware
+ */
+public class Histogram {
+	
+	/** The number of values in each bucket */
+	private final long[] buckets = new long[Long.SIZE];
+	
+	/** The number of values added */
+	private long count = 0;
+	
+	/** The sum of all values added */
+	private long sum = 0;
+	
+	/** The largest value added */
+	private long max = 0;
+	
+	/**
+	 * Constructs a new, empty histogram.
+	 */
+	public Histogram() {
+		// Empty
+	}
+	
+	@Override
+	public String toString() {
+		return "[count=" + count + " sum=" + sum + " median=" + getQuantile(0.5) + " max=" + max + "]";
+	}
+	
+	/**
+	 * Adds a value to the histogram.
+	 * 
+	 * @param value the value to add
+	 */
+	public void add(long value) {
+		value = Math.max(0, value);
+		buckets[Long.SIZE - Long.numberOfLeadingZeros(value)]++;
+		count++;
+		sum += value;
+		max = Math.max(max, value);
+	}
+	
+	/**
+	 * Adds all the values that were added to another histogram to this one.
+	 * The other histogram is not modified.
+	 * 
+	 * @param other the histogram whose values will be added to this one
+	 */
+	public void merge(Histogram other) {
+		for(int i=0; i<buckets.length; i++)
+			buckets[i] += other.buckets[i];
+		count += other.count;
+		sum += other.sum;
+		max = Math.max(max, other.max);
+	}
+	
+	/**
+	 * Returns the number of values added.
+	 * 
+	 * @return the number of values
+	 */
+	public long getCount() {
+		return count;
+	}
+	
+	/**
+	 * Returns the sum of all values added.
+	 * 
+	 * @return the sum
+	 */
+	public long getSum() {
+		return sum;
+	}
+	
+	/**
+	 * Returns the largest value added, or null if no values were added.
+	 * 
+	 * @return the largest value, or null
+	 */
+	public Long getMax() {
+		return count == 0 ? null : max;
+	}
+	
+	/**
+	 * Returns an estimate of the value at a given quantile, or null if no
+	 * values have been added.
+	 * 
+	 * @param quantile the quantile, between 0 and 1
+	 * @return the estimated value at that quantile, or null
+	 * @throws IllegalArgumentException if the quantile is not between 0 and 1
+	 */
+	public Double getQuantile(double quantile) {
+		if(quantile < 0 || quantile > 1)
+			throw new IllegalArgumentException("A quantile must be between 0 and 1.");
+		if(count == 0)
+			return null;
+		double rank = Math.max(1, Math.ceil(quantile * count));
+		long before = 0;
+		for(int i=0; i<buckets.length; i++) {
+			if(before + buckets[i] >= rank) {
+				if(i == 0)
+					return 0.0;
+				double lower = Math.pow(2, i - 1);
+				double upper = Math.min(Math.pow(2, i) - 1, max);
+				return lower + (upper - lower) * (rank - before) / buckets[i];
+			}
+			before += buckets[i];
+		}
+		return (double) max;
+	}
+}
\ No newline at end of file
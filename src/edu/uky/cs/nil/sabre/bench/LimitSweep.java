@@ -0,0 +1,379 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import edu.uky.cs.nil.sabre.comp.CompiledAction;
+import edu.uky.cs.nil.sabre.comp.CompiledProblem;
+import edu.uky.cs.nil.sabre.prog.ProgressionPlanner;
+import edu.uky.cs.nil.sabre.search.Planner;
+import edu.uky.cs.nil.sabre.search.Result;
+import edu.uky.cs.nil.sabre.util.Worker;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * Runs each planner on each problem once for every combination of author
+ * temporal, character temporal, and epistemic limits and limits on nodes
+ * visited and time, to show how much cheaper a problem becomes with lower
+ * limits or whether higher limits would solve it. Each problem is compiled
+ * once per planner, and the compiled problem is reused for every combination.
+ * <p>
+ * Arguments have the form {@code name=values}, where the values are a comma
+ * separated list of numbers or ranges like {@code 2..6}:
+ * <ul>
+ * <li>{@code problem}: the names of the {@link Main#getProblems() benchmark
+ * problems} to test (default all)</li>
+ * <li>{@code planner}: the names of the {@link Main#getPlanners() planners}
+ * to test (default all)</li>
+ * <li>{@code atl}, {@code ctl}, {@code el}: the author temporal, character
+ * temporal, and epistemic limits (default each problem's own limit)</li>
+ * <li>{@code nodes}, {@code time}: the limits on nodes visited and
+ * milliseconds, where -1 means no limit (default {@link Main#SEARCH_LIMIT}
+ * and {@link Main#TIME_LIMIT})</li>
+ * </ul>
+ * For example, {@code problem=treasure el=0..3 nodes=1000,100000} tests
+ * every planner on {@code treasure} with 8 combinations of limits.
+ * <p>
+ * Dominated combinations are pruned rather than run. Combinations are tried
+ * from the highest limits to the lowest. If a search fails without reaching
+ * its node or time limit, it explored every plan within its temporal and
+ * epistemic limits, so every combination with no higher temporal and
+ * epistemic limits is recorded as a failure without running it. If a search
+ * fails by reaching its node or time limit, every combination with the same
+ * temporal and epistemic limits and no higher node and time limits is
+ * recorded as a failure. The table of results marks which failures were
+ * inferred this way. It is printed and saved to {@code results/sweep.csv}.
+ * 
+ * @author Stephen G. Ware
+ */
+public class LimitSweep {
+	
+	/** Column label for the name of the problem */
+	public static final String PROBLEM = Report.RESULTS_PROBLEM;
+	
+	/** Column label for the name of the planner */
+	public static final String PLANNER = Report.RESULTS_PLANNER;
+	
+	/** Column label for the author temporal limit */
+	public static final String ATL = Report.PROBLEMS_ATL;
+	
+	/** Column label for the character temporal limit */
+	public static final String CTL = Report.PROBLEMS_CTL;
+	
+	/** Column label for the epistemic limit */
+	public static final String EL = Report.PROBLEMS_EL;
+	
+	/** Column label for the limit on nodes visited, or -1 for no limit */
+	public static final String NODES = "Node Limit";
+	
+	/** Column label for the limit on milliseconds, or -1 for no limit */
+	public static final String TIME = "Time Limit (ms)";
+	
+	/** Column label for whether the planner solved the problem */
+	public static final String SUCCESS = Report.RESULTS_SUCCESS;
+	
+	/**
+	 * Column label for whether the failure was inferred from a failure with
+	 * higher limits rather than run
+	 */
+	public static final String INFERRED = "Inferred?";
+	
+	/** Column label for the number of nodes the search visited */
+	public static final String VISITED = Report.RESULTS_VISITED;
+	
+	/** Column label for the number of nodes the search generated */
+	public static final String GENERATED = Report.RESULTS_GENERATED;
+	
+	/** Column label for the milliseconds the search took */
+	public static final String SEARCH_TIME = Report.RESULTS_TIME;
+	
+	/**
+	 * One combination of limits.
+	 */
+	public static final class Limits {
+		
+		/** The author temporal limit */
+		public final int atl;
+		
+		/** The character temporal limit */
+		public final int ctl;
+		
+		/** The epistemic limit */
+		public final int el;
+		
+		/** The limit on nodes visited, or {@link Planner#UNLIMITED_NODES} */
+		public final long nodes;
+		
+		/** The limit on milliseconds, or {@link Planner#UNLIMITED_TIME} */
+		public final long time;
+		
+		/**
+		 * Constructs a new combination of limits.
+		 * 
+		 * @param atl the author temporal limit
+		 * @param ctl the character temporal limit
+		 * @param el the epistemic limit
+		 * @param nodes the limit on nodes visited
+		 * @param time the limit on milliseconds
+		 */
+		public Limits(int atl, int ctl, int el, long nodes, long time) {
+			this.atl = atl;
+			this.ctl = ctl;
+			this.el = el;
+			this.nodes = nodes;
+			this.time = time;
+		}
+		
+		@Override
+		public String toString() {
+			return "[atl=" + atl + ", ctl=" + ctl + ", el=" + el + ", nodes=" + nodes + ", time=" + time + "]";
+		}
+		
+		/**
+		 * Tests whether every temporal and epistemic limit of this combination
+		 * is at least as high as the other's.
+		 * 
+		 * @param other the other combination
+		 * @return true if this combination's search space contains the other's
+		 */
+		public boolean contains(Limits other) {
+			return atl >= other.atl && ctl >= other.ctl && el >= other.el;
+		}
+		
+		/**
+		 * Tests whether this combination has the same temporal and epistemic
+		 * limits as the other and node and time limits at least as high.
+		 * 
+		 * @param other the other combination
+		 * @return true if a search with these limits runs at least as long as
+		 * a search with the other's limits
+		 */
+		public boolean outlasts(Limits other) {
+			return atl == other.atl && ctl == other.ctl && el == other.el && toMax(nodes) >= toMax(other.nodes) && toMax(time) >= toMax(other.time);
+		}
+		
+		/**
+		 * Compares combinations from highest limits to lowest, so that a
+		 * combination always comes before every combination it {@link
+		 * #contains(Limits) contains} or {@link #outlasts(Limits) outlasts}.
+		 */
+		private static final Comparator<Limits> DESCENDING = Comparator.<Limits>comparingInt(l -> l.atl)
+			.thenComparingInt(l -> l.ctl)
+			.thenComparingInt(l -> l.el)
+			.thenComparingLong(l -> toMax(l.nodes))
+			.thenComparingLong(l -> toMax(l.time))
+			.reversed();
+		
+		private static final long toMax(long limit) {
+			return limit < 0 ? Long.MAX_VALUE : limit;
+		}
+	}
+	
+	/**
+	 * Runs the sweep described by the arguments, prints the results, and saves
+	 * them to {@code results/sweep.csv}.
+	 * 
+	 * @param args arguments of the form {@code name=values}, as described
+	 * above
+	 * @throws Exception if an argument is not valid or an exception occurs
+	 * while the tests are running
+	 */
+	public static void main(String[] args) throws Exception {
+		LinkedHashMap<String, String> arguments = new LinkedHashMap<>();
+		for(String arg : args) {
+			int index = arg.indexOf('=');
+			if(index < 0)
+				throw new IllegalArgumentException("Argument \"" + arg + "\" must have the form name=values.");
+			String name = arg.substring(0, index);
+			if(!Arrays.asList("problem", "planner", "atl", "ctl", "el", "nodes", "time").contains(name))
+				throw new IllegalArgumentException("Unknown argument \"" + name + "\".");
+			arguments.put(name, arg.substring(index + 1));
+		}
+		Table table = Worker.get(status -> run(arguments, status), 1, TimeUnit.MINUTES);
+		System.out.println("\n\n" + table);
+		new File("results").mkdirs();
+		try(CSVTablePrinter printer = new CSVTablePrinter(new File("results/sweep.csv"))) {
+			printer.print(table);
+		}
+	}
+	
+	/**
+	 * Parses a comma separated list of numbers or ranges like {@code 2..6}.
+	 * 
+	 * @param values the text to parse
+	 * @return the numbers in the order given
+	 * @throws IllegalArgumentException if the text is not a valid list
+	 */
+	public static List<Long> parse(String values) {
+		ArrayList<Long> list = new ArrayList<>();
+		for(String value : values.split(",")) {
+			value = value.trim();
+			int index = value.indexOf("..");
+			try {
+				if(index < 0)
+					list.add(Long.parseLong(value));
+				else {
+					long from = Long.parseLong(value.substring(0, index).trim());
+					long to = Long.parseLong(value.substring(index + 2).trim());
+					if(to < from)
+						throw new IllegalArgumentException("Range \"" + value + "\" is empty.");
+					for(long i=from; i<=to; i++)
+						list.add(i);
+				}
+			}
+			catch(NumberFormatException e) {
+				throw new IllegalArgumentException("\"" + value + "\" is not a number or range.", e);
+			}
+		}
+		return list;
+	}
+	
+	private static Table run(Map<String, String> arguments, Status status) throws Exception {
+		ArrayList<Benchmark> problems = new ArrayList<>();
+		for(Benchmark problem : Main.getProblems())
+			if(!arguments.containsKey("problem") || Arrays.asList(arguments.get("problem").split(",")).contains(problem.name))
+				problems.add(problem);
+		ArrayList<ProgressionPlanner> planners = new ArrayList<>();
+		for(ProgressionPlanner planner : Main.getPlanners())
+			if(!arguments.containsKey("planner") || Arrays.asList(arguments.get("planner").split(",")).contains(planner.name))
+				planners.add(planner);
+		if(problems.isEmpty() || planners.isEmpty())
+			throw new IllegalArgumentException("No problems or no planners match the arguments.");
+		ArrayList<Sweep> tasks = new ArrayList<>();
+		for(Benchmark problem : problems) {
+			problem.load(status);
+			List<Limits> grid = getGrid(problem, arguments);
+			for(ProgressionPlanner planner : planners)
+				tasks.add(new Sweep(problem, planner, grid));
+		}
+		// Each planner's combinations on each problem depend on each other,
+		// but different problems and planners can be swept in parallel.
+		ExecutorService pool = Executors.newFixedThreadPool(Main.THREADS);
+		ArrayList<Object[]> rows = new ArrayList<>();
+		try {
+			ArrayList<Future<List<Object[]>>> futures = new ArrayList<>();
+			for(Sweep task : tasks)
+				futures.add(pool.submit(task));
+			status.setMessage("Sweeping limits: %d of " + tasks.size() + " complete", 0);
+			for(int i=0; i<futures.size(); i++) {
+				try {
+					rows.addAll(futures.get(i).get());
+				}
+				catch(ExecutionException e) {
+					if(e.getCause() instanceof Exception)
+						throw (Exception) e.getCause();
+					else
+						throw e;
+				}
+				status.update(0, i + 1);
+			}
+		}
+		finally {
+			pool.shutdownNow();
+		}
+		Table table = new Table();
+		String[] columns = { PROBLEM, PLANNER, ATL, CTL, EL, NODES, TIME, SUCCESS, INFERRED, VISITED, GENERATED, SEARCH_TIME };
+		Class<?>[] types = { String.class, String.class, Integer.class, Integer.class, Integer.class, Long.class, Long.class, Boolean.class, Boolean.class, Long.class, Long.class, Long.class };
+		for(int i=0; i<columns.length; i++)
+			table.addColumn(columns[i], types[i]);
+		for(int i=0; i<rows.size(); i++) {
+			table.addRow(i);
+			for(int j=0; j<columns.length; j++)
+				table.set(i, columns[j], rows.get(i)[j]);
+		}
+		return table;
+	}
+	
+	private static final List<Limits> getGrid(Benchmark problem, Map<String, String> arguments) {
+		List<Long> atls = arguments.containsKey("atl") ? parse(arguments.get("atl")) : List.of((long) problem.atl);
+		List<Long> ctls = arguments.containsKey("ctl") ? parse(arguments.get("ctl")) : List.of((long) problem.ctl);
+		List<Long> els = arguments.containsKey("el") ? parse(arguments.get("el")) : List.of((long) problem.el);
+		List<Long> nodes = arguments.containsKey("nodes") ? parse(arguments.get("nodes")) : List.of(Main.SEARCH_LIMIT);
+		List<Long> times = arguments.containsKey("time") ? parse(arguments.get("time")) : List.of(Main.TIME_LIMIT);
+		ArrayList<Limits> grid = new ArrayList<>();
+		for(long atl : atls)
+			for(long ctl : ctls)
+				for(long el : els)
+					for(long node : nodes)
+						for(long time : times)
+							grid.add(new Limits((int) atl, (int) ctl, (int) el, node, time));
+		return grid;
+	}
+	
+	/**
+	 * Sweeps every combination of limits for one planner on one problem.
+	 */
+	private static final class Sweep implements Callable<List<Object[]>> {
+		
+		/** The problem */
+		public final Benchmark problem;
+		
+		/** The planner */
+		public final ProgressionPlanner planner;
+		
+		/** The combinations of limits, in the order they will be reported */
+		public final List<Limits> grid;
+		
+		public Sweep(Benchmark problem, ProgressionPlanner planner, List<Limits> grid) {
+			this.problem = problem;
+			this.planner = planner;
+			this.grid = grid;
+		}
+		
+		@Override
+		public List<Object[]> call() {
+			Status status = new Status();
+			CompiledProblem compiled = planner.compile(problem.getProblem(), status);
+			ArrayList<Limits> order = new ArrayList<>(grid);
+			order.sort(Limits.DESCENDING);
+			ArrayList<Limits> exhausted = new ArrayList<>();
+			ArrayList<Limits> limited = new ArrayList<>();
+			LinkedHashMap<Limits, Object[]> rows = new LinkedHashMap<>();
+			for(Limits limits : grid)
+				rows.put(limits, null);
+			for(Limits limits : order) {
+				Object[] row = new Object[] { problem.name, planner.name, limits.atl, limits.ctl, limits.el, limits.nodes, limits.time, false, true, null, null, null };
+				boolean pruned = false;
+				for(Limits failure : exhausted)
+					pruned = pruned || failure.contains(limits);
+				for(Limits failure : limited)
+					pruned = pruned || failure.outlasts(limits);
+				if(!pruned) {
+					Result<CompiledAction> result = problem.getSearch(planner, compiled, limits.atl, limits.ctl, limits.el, limits.nodes, limits.time, status).get(status);
+					row[7] = result.getSuccess();
+					row[8] = false;
+					row[9] = result.visited;
+					row[10] = result.generated;
+					row[11] = result.time;
+					if(!result.getSuccess()) {
+						boolean nodes = limits.nodes != Planner.UNLIMITED_NODES && result.visited >= limits.nodes;
+						boolean space = planner.getSpaceLimit() != Planner.UNLIMITED_NODES && result.generated >= planner.getSpaceLimit();
+						boolean time = limits.time != Planner.UNLIMITED_TIME && result.time >= limits.time;
+						if(nodes || space || time)
+							limited.add(limits);
+						else
+							exhausted.add(limits);
+					}
+				}
+				rows.put(limits, row);
+			}
+			return new ArrayList<>(rows.values());
+		}
+	}
+	
+	/**
+	 * A private constructor means this class cannot be instantiated.
+	 */
+	private LimitSweep() {}
+}
\ No newline at end of file
@@ -6,6 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import jdk.jfr.Recording;
+
 import edu.uky.cs.nil.sabre.Solution;
 import edu.uky.cs.nil.sabre.comp.ActionShuffler;
 import edu.uky.cs.nil.sabre.comp.CompiledAction;
@@ -48,21 +50,145 @@ public class Main {
 	 */
 	public static final long TIME_LIMIT = Planner.UNLIMITED_TIME;
 	
-	/** The number of times to run each planner on each problem */
+	/**
+	 * The number of times to run each planner on each problem, or the most
+	 * times if {@link #ADAPTIVE} is true
+	 */
 	public static final int RUNS = 10;
 	
+	/**
+	 * Whether the number of runs of each planner on each problem is chosen
+	 * adaptively by the {@link TestSuite test suite}, adding runs only until
+	 * the results are precise enough
+	 */
+	public static final boolean ADAPTIVE = false;
+	
+	/**
+	 * The number of times each planner is run on each problem before more
+	 * runs are added when {@link #ADAPTIVE} is true
+	 */
+	public static final int MIN_RUNS = 5;
+	
+	/**
+	 * When {@link #ADAPTIVE} is true, runs are added until the confidence
+	 * intervals of the median nodes visited and median time are no wider than
+	 * this fraction of the median
+	 */
+	public static final double TARGET_WIDTH = 0.1;
+	
+	/**
+	 * When {@link #ADAPTIVE} is true, a confidence interval of the median time
+	 * no wider than this many milliseconds is always narrow enough, since
+	 * differences that small are mostly timer and scheduling noise
+	 */
+	public static final long MIN_TIME_WIDTH = 10;
+	
 	/**
 	 * Whether or not the order of actions should be {@link ActionShuffler
 	 * shuffled} between runs
 	 */
 	public static final boolean SHUFFLE = true;
 	
+	/**
+	 * The number of unrecorded {@link TestSuite#warmup(Status) warmup
+	 * searches} each planner runs on each problem before the measured tests
+	 * begin, so that class loading and JIT compilation are not counted in the
+	 * first run's time
+	 */
+	public static final int WARMUP = 1;
+	
+	/**
+	 * The maximum number of nodes a warmup search may {@link
+	 * ProgressionSearch#getVisited() visit}, so that warmups on hard problems
+	 * end quickly
+	 */
+	public static final long WARMUP_LIMIT = 10000;
+	
+	/**
+	 * The number of times the runs of each planner on each problem are
+	 * resampled to calculate {@link Bootstrap bootstrap confidence intervals}
+	 */
+	public static final int RESAMPLES = 10000;
+	
+	/** The confidence level of the bootstrap confidence intervals */
+	public static final double CONFIDENCE = 0.95;
+	
+	/**
+	 * The seed used when resampling so that confidence intervals are
+	 * reproducible
+	 */
+	public static final long SEED = 0;
+	
+	/**
+	 * The seed which is added to the run number to give the {@link
+	 * Benchmark#getShuffleSeed(int) seed used to shuffle each run}, kept
+	 * separate from {@link #SEED the resampling seed} so that changing one
+	 * does not change the other
+	 */
+	public static final long SHUFFLE_SEED = 0;
+	
+	/**
+	 * The penalty factor for penalized average runtime (PAR-k) scores, which
+	 * count each failed run as this many times the time limit
+	 */
+	public static final int PAR = 2;
+	
+	/**
+	 * The name of the planner that other planners' speedups are measured
+	 * against
+	 */
+	public static final String BASELINE = "BFS";
+	
+	/**
+	 * Whether to wrap every planner's heuristic in a {@link ProfilingHeuristic
+	 * profiling heuristic} to measure how often it is called and how long each
+	 * call takes (individual heuristics can also be profiled by wrapping them
+	 * in {@link #getPlanners()}); timing every call slows the search, so
+	 * times measured with profiling on are not comparable to times measured
+	 * with it off
+	 */
+	public static final boolean PROFILE_HEURISTICS = false;
+	
+	/**
+	 * Whether to make a Java Flight Recorder recording, including {@link
+	 * Events benchmark events}, while the tests run and save it to {@code
+	 * results.jfr}
+	 */
+	public static final boolean RECORD = false;
+	
+	/**
+	 * The number of milliseconds between {@link ProgressSampler samples} of
+	 * each running search's progress, or 0 to only sample each search when it
+	 * starts and ends
+	 */
+	public static final long SAMPLE_INTERVAL = 1000;
+	
+	/**
+	 * The directory where the {@link ProgressSampler.Series series of progress
+	 * samples} for each test are written, or null to not write them (a full
+	 * run writes one file per test)
+	 */
+	public static final String PROGRESS_DIRECTORY = null;
+	
+	/**
+	 * The port on which to {@link MetricsServer serve live metrics} about the
+	 * tests while they run, or -1 to not serve metrics
+	 */
+	public static final int METRICS_PORT = -1;
+	
+	/**
+	 * Whether to add a {@link GeneratedBenchmark#getSweep() sweep of generated
+	 * problems} to the benchmark problems to show how planners scale as
+	 * problems grow
+	 */
+	public static final boolean SCALING = false;
+	
 	/**
 	 * Returns a list of all the {@link Benchmark benchmark problems} to test.
 	 * 
 	 * @return a list of benchmark problems
 	 */
-	private static final List<Benchmark> getProblems() {
+	static final List<Benchmark> getProblems() {
 		ArrayList<Benchmark> list = new ArrayList<>();
 		/*						Name				File				Goal	ATL		CTL		EL  */
 		list.add(new Benchmark("bribery", 			"bribery",			1,		5,		5,		2	));
@@ -92,6 +218,8 @@ public class Main {
 		list.add(new Benchmark("jailbreak_escape",	"jailbreak",		3,		7,		6,		1	));
 		list.add(new Benchmark("jailbreak_revenge",	"jailbreak",		6,		7,		6,		1	));
 		list.add(new Benchmark("lovers",			"lovers",			1,		5,		5,		2	));
+		if(SCALING)
+			list.addAll(GeneratedBenchmark.getSweep());
 		return list;
 	}
 	
@@ -101,7 +229,7 @@ public class Main {
 	 * 
 	 * @return a list of planners
 	 */
-	private static final List<ProgressionPlanner> getPlanners() {
+	static final List<ProgressionPlanner> getPlanners() {
 		ArrayList<ProgressionPlanner> list = new ArrayList<>();
 		ProgressionCostFactory t = ProgressionCostFactory.TEMPORAL;
 		ProgressionCostFactory reach = new RepeatedRootHeuristic.Factory(ReachabilityHeuristic.FACTORY);
@@ -142,6 +270,8 @@ public class Main {
 		ProgressionPlanner planner = new ProgressionPlanner(name);
 		planner.setMethod(method);
 		planner.setCost(cost);
+		if(PROFILE_HEURISTICS && !(heuristic instanceof ProfilingHeuristic.Factory))
+			heuristic = new ProfilingHeuristic.Factory(heuristic);
 		planner.setHeuristic(heuristic);
 		planner.setSearchLimit(SEARCH_LIMIT);
 		planner.setSpaceLimit(SPACE_LIMIT);
@@ -203,8 +333,12 @@ public class Main {
 				else {
 					ProgressionCostFactory heuristic = planner.getHeuristic();
 					planner.setHeuristic(new VerificationHeuristic.Factory(heuristic, solution));
+					Events.VerificationEvent event = new Events.VerificationEvent(problem.name, planner.name);
+					event.begin();
 					ProgressionSearch search = problem.getSearch(planner, 1, status);
 					Result<CompiledAction> result = search.get(status);
+					event.success = result.getSuccess();
+					event.commit();
 					if(result.getSuccess())
 						System.out.println("\nPlanner \"" + planner.name + "\" verified this solution to problem \"" + problem.name + "\":\n" + result.solution);
 					else
@@ -215,8 +349,18 @@ public class Main {
 		}
 		// Run each planner on each problem.
 		TestSuite suite = new TestSuite(problems, planners, report);
-		report.setStart();
-		suite.run(status);
+		Recording recording = RECORD ? Events.startRecording(new File("results.jfr")) : null;
+		try {
+			suite.warmup(status);
+			report.setStart();
+			suite.run(status);
+		}
+		finally {
+			if(recording != null) {
+				recording.stop();
+				recording.close();
+			}
+		}
 		report.setEnd();
 		System.out.println("Sabre Benchmark tests ended on " + ZonedDateTime.now());
 		return report;
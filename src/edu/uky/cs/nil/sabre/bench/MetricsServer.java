@@ -0,0 +1,365 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import edu.uky.cs.nil.sabre.comp.CompiledAction;
+import edu.uky.cs.nil.sabre.search.Result;
+
+/**
+ * A metrics server serves live statistics about a running {@link TestSuite
+ * test suite} over HTTP so that a long run can be watched without reading its
+ * console output or attaching a debugger. It uses the HTTP server built into
+ * the JDK and only accepts connections from the local machine.
+ * <p>
+ * Two pages are served: {@code /metrics} in the <a
+ * href="https://prometheus.io/docs/instrumenting/exposition_formats/">Prometheus
+ * text format</a>, and {@code /metrics.json} in JSON. Both report how many
+ * tests are pending, running, and complete; the test each {@link
+ * TestSuite.Runner runner} is running, how long it has been running, and how
+ * many nodes it has visited; the combined rate of all running searches; heap
+ * use and garbage collection totals; and a partial summary of each planner's
+ * completed tests. A test whose elapsed time keeps growing while its nodes
+ * visited do not is likely stuck.
+ * <p>
+ * The server starts when it is constructed and stops when it is {@link
+ * #close() closed}.
+ * 
+ * @author Stephen G. Ware
+ */
+public class MetricsServer implements AutoCloseable {
+	
+	/**
+	 * A snapshot of the metrics at one moment, taken once for each request.
+	 */
+	private static final class Snapshot {
+		
+		/** The total number of tests */
+		public final int size;
+		
+		/** The number of tests not yet started */
+		public final int pending;
+		
+		/** The number of tests started but not completed */
+		public final int running;
+		
+		/** The number of tests completed */
+		public final int complete;
+		
+		/** The current state of each runner */
+		public final List<RunnerState> runners = new ArrayList<>();
+		
+		/** The combined rate of all running searches in nodes visited per second */
+		public final double rate;
+		
+		/** Heap use */
+		public final MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+		
+		/** The number of collections by each garbage collector */
+		public final Map<String, Long> collections = new LinkedHashMap<>();
+		
+		/** The total milliseconds spent by each garbage collector */
+		public final Map<String, Long> collectionTimes = new LinkedHashMap<>();
+		
+		/** A partial summary of each planner's completed tests */
+		public final Map<String, PlannerState> planners = new LinkedHashMap<>();
+		
+		public Snapshot(TestSuite suite) {
+			List<TestSuite.Test> completed = suite.getCompleted();
+			this.size = suite.getSize();
+			this.pending = suite.getPending();
+			this.running = suite.getRunning();
+			this.complete = completed.size();
+			double rate = 0;
+			List<TestSuite.Runner> runners = suite.getRunners();
+			for(int i=0; i<runners.size(); i++) {
+				RunnerState state = new RunnerState(i, runners.get(i));
+				if(state.test != null) {
+					this.runners.add(state);
+					rate += state.getRate();
+				}
+			}
+			this.rate = rate;
+			for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+				collections.put(collector.getName(), collector.getCollectionCount());
+				collectionTimes.put(collector.getName(), collector.getCollectionTime());
+			}
+			for(TestSuite.Test test : completed)
+				planners.computeIfAbsent(test.planner.name, name -> new PlannerState()).add(test.getResult());
+		}
+	}
+	
+	/**
+	 * The state of one runner at the moment a snapshot was taken.
+	 */
+	private static final class RunnerState {
+		
+		/** The runner's index */
+		public final int index;
+		
+		/** The test the runner is running, or null if none */
+		public final TestSuite.Test test;
+		
+		/** The milliseconds since the test started */
+		public final long elapsed;
+		
+		/** The nodes visited so far */
+		public final long visited;
+		
+		/** The nodes generated so far */
+		public final long generated;
+		
+		public RunnerState(int index, TestSuite.Runner runner) {
+			this.index = index;
+			this.test = runner.getTest();
+			this.elapsed = runner.getElapsed();
+			this.visited = runner.getVisited();
+			this.generated = runner.getGenerated();
+		}
+		
+		public double getRate() {
+			return elapsed == 0 ? 0 : visited * 1000.0 / elapsed;
+		}
+	}
+	
+	/**
+	 * A partial summary of one planner's completed tests.
+	 */
+	private static final class PlannerState {
+		
+		/** The number of tests completed */
+		public long complete = 0;
+		
+		/** The number of tests solved */
+		public long solved = 0;
+		
+		/** The total nodes visited */
+		public long visited = 0;
+		
+		/** The total nodes generated */
+		public long generated = 0;
+		
+		/** The total time in milliseconds */
+		public long time = 0;
+		
+		public void add(Result<CompiledAction> result) {
+			complete++;
+			if(result.getSuccess())
+				solved++;
+			visited += result.visited;
+			generated += result.generated;
+			time += result.time;
+		}
+	}
+	
+	/** The path of the page in the Prometheus text format */
+	public static final String PROMETHEUS_PATH = "/metrics";
+	
+	/** The path of the page in JSON */
+	public static final String JSON_PATH = "/metrics.json";
+	
+	/** The test suite being reported on */
+	public final TestSuite suite;
+	
+	/** The HTTP server */
+	private final HttpServer server;
+	
+	/**
+	 * Constructs a new metrics server and starts serving on the local
+	 * machine's loopback address.
+	 * 
+	 * @param suite the test suite to report on
+	 * @param port the port to serve on, or 0 to use any free port
+	 * @throws IOException if the server cannot be started
+	 */
+	public MetricsServer(TestSuite suite, int port) throws IOException {
+		this.suite = suite;
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+		server.createContext(PROMETHEUS_PATH, exchange -> respond(exchange, "text/plain; version=0.0.4", MetricsServer::toPrometheus));
+		server.createContext(JSON_PATH, exchange -> respond(exchange, "application/json", MetricsServer::toJSON));
+		server.start();
+		System.out.println("Serving metrics at http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + getPort() + PROMETHEUS_PATH);
+	}
+	
+	@Override
+	public String toString() {
+		return "metrics server on port " + getPort();
+	}
+	
+	/**
+	 * Returns the port the server is listening on.
+	 * 
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+	
+	/**
+	 * Stops the server.
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+	
+	private final void respond(HttpExchange exchange, String type, Function<Snapshot, String> format) throws IOException {
+		try {
+			if(!exchange.getRequestMethod().equals("GET")) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			byte[] body = format.apply(new Snapshot(suite)).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().set("Content-Type", type + "; charset=utf-8");
+			exchange.sendResponseHeaders(200, body.length);
+			try(OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		}
+		finally {
+			exchange.close();
+		}
+	}
+	
+	private static final String toPrometheus(Snapshot snapshot) {
+		StringBuilder string = new StringBuilder();
+		metric(string, "sabre_tests", "gauge", "Number of tests in each state.");
+		string.append("sabre_tests{state=\"pending\"} ").append(snapshot.pending).append("\n");
+		string.append("sabre_tests{state=\"running\"} ").append(snapshot.running).append("\n");
+		string.append("sabre_tests{state=\"complete\"} ").append(snapshot.complete).append("\n");
+		metric(string, "sabre_tests_total", "gauge", "Total number of tests in the suite.");
+		string.append("sabre_tests_total ").append(snapshot.size).append("\n");
+		metric(string, "sabre_runner_elapsed_seconds", "gauge", "Time since each runner started its current test.");
+		for(RunnerState runner : snapshot.runners)
+			string.append("sabre_runner_elapsed_seconds").append(labels(runner)).append(" ").append(runner.elapsed / 1000.0).append("\n");
+		metric(string, "sabre_runner_visited", "gauge", "Nodes visited so far by each runner's current search.");
+		for(RunnerState runner : snapshot.runners)
+			string.append("sabre_runner_visited").append(labels(runner)).append(" ").append(runner.visited).append("\n");
+		metric(string, "sabre_runner_generated", "gauge", "Nodes generated so far by each runner's current search.");
+		for(RunnerState runner : snapshot.runners)
+			string.append("sabre_runner_generated").append(labels(runner)).append(" ").append(runner.generated).append("\n");
+		metric(string, "sabre_nodes_per_second", "gauge", "Combined rate of all running searches in nodes visited per second.");
+		string.append("sabre_nodes_per_second ").append(snapshot.rate).append("\n");
+		metric(string, "sabre_heap_bytes", "gauge", "Heap memory in bytes.");
+		string.append("sabre_heap_bytes{area=\"used\"} ").append(snapshot.heap.getUsed()).append("\n");
+		string.append("sabre_heap_bytes{area=\"committed\"} ").append(snapshot.heap.getCommitted()).append("\n");
+		string.append("sabre_heap_bytes{area=\"max\"} ").append(snapshot.heap.getMax()).append("\n");
+		metric(string, "sabre_gc_collections_total", "counter", "Number of collections by each garbage collector.");
+		for(Map.Entry<String, Long> entry : snapshot.collections.entrySet())
+			string.append("sabre_gc_collections_total{collector=\"").append(escape(entry.getKey())).append("\"} ").append(entry.getValue()).append("\n");
+		metric(string, "sabre_gc_seconds_total", "counter", "Time spent by each garbage collector.");
+		for(Map.Entry<String, Long> entry : snapshot.collectionTimes.entrySet())
+			string.append("sabre_gc_seconds_total{collector=\"").append(escape(entry.getKey())).append("\"} ").append(entry.getValue() / 1000.0).append("\n");
+		metric(string, "sabre_planner_complete", "gauge", "Number of tests each planner has completed.");
+		for(Map.Entry<String, PlannerState> entry : snapshot.planners.entrySet())
+			string.append("sabre_planner_complete").append(label(entry.getKey())).append(" ").append(entry.getValue().complete).append("\n");
+		metric(string, "sabre_planner_solved", "gauge", "Number of tests each planner has solved.");
+		for(Map.Entry<String, PlannerState> entry : snapshot.planners.entrySet())
+			string.append("sabre_planner_solved").append(label(entry.getKey())).append(" ").append(entry.getValue().solved).append("\n");
+		metric(string, "sabre_planner_visited", "gauge", "Total nodes visited by each planner's completed tests.");
+		for(Map.Entry<String, PlannerState> entry : snapshot.planners.entrySet())
+			string.append("sabre_planner_visited").append(label(entry.getKey())).append(" ").append(entry.getValue().visited).append("\n");
+		metric(string, "sabre_planner_generated", "gauge", "Total nodes generated by each planner's completed tests.");
+		for(Map.Entry<String, PlannerState> entry : snapshot.planners.entrySet())
+			string.append("sabre_planner_generated").append(label(entry.getKey())).append(" ").append(entry.getValue().generated).append("\n");
+		metric(string, "sabre_planner_time_seconds", "gauge", "Total search time of each planner's completed tests.");
+		for(Map.Entry<String, PlannerState> entry : snapshot.planners.entrySet())
+			string.append("sabre_planner_time_seconds").append(label(entry.getKey())).append(" ").append(entry.getValue().time / 1000.0).append("\n");
+		return string.toString();
+	}
+	
+	private static final void metric(StringBuilder string, String name, String type, String help) {
+		string.append("# HELP ").append(name).append(" ").append(help).append("\n");
+		string.append("# TYPE ").append(name).append(" ").append(type).append("\n");
+	}
+	
+	private static final String labels(RunnerState runner) {
+		return "{runner=\"" + runner.index + "\",problem=\"" + escape(runner.test.problem.name) + "\",planner=\"" + escape(runner.test.planner.name) + "\",run=\"" + runner.test.run + "\"}";
+	}
+	
+	private static final String label(String planner) {
+		return "{planner=\"" + escape(planner) + "\"}";
+	}
+	
+	private static final String escape(String string) {
+		return string.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+	
+	private static final String toJSON(Snapshot snapshot) {
+		StringBuilder string = new StringBuilder();
+		string.append("{\n");
+		string.append("\t\"tests\": {\"total\": ").append(snapshot.size);
+		string.append(", \"pending\": ").append(snapshot.pending);
+		string.append(", \"running\": ").append(snapshot.running);
+		string.append(", \"complete\": ").append(snapshot.complete).append("},\n");
+		string.append("\t\"runners\": [");
+		for(int i=0; i<snapshot.runners.size(); i++) {
+			RunnerState runner = snapshot.runners.get(i);
+			string.append(i == 0 ? "\n" : ",\n");
+			string.append("\t\t{\"runner\": ").append(runner.index);
+			string.append(", \"problem\": ").append(quote(runner.test.problem.name));
+			string.append(", \"planner\": ").append(quote(runner.test.planner.name));
+			string.append(", \"run\": ").append(runner.test.run);
+			string.append(", \"elapsed\": ").append(runner.elapsed);
+			string.append(", \"visited\": ").append(runner.visited);
+			string.append(", \"generated\": ").append(runner.generated);
+			string.append(", \"rate\": ").append(runner.getRate()).append("}");
+		}
+		string.append(snapshot.runners.isEmpty() ? "],\n" : "\n\t],\n");
+		string.append("\t\"rate\": ").append(snapshot.rate).append(",\n");
+		string.append("\t\"heap\": {\"used\": ").append(snapshot.heap.getUsed());
+		string.append(", \"committed\": ").append(snapshot.heap.getCommitted());
+		string.append(", \"max\": ").append(snapshot.heap.getMax()).append("},\n");
+		string.append("\t\"gc\": {");
+		boolean first = true;
+		for(String name : snapshot.collections.keySet()) {
+			string.append(first ? "\n" : ",\n");
+			string.append("\t\t").append(quote(name)).append(": {\"collections\": ").append(snapshot.collections.get(name));
+			string.append(", \"time\": ").append(snapshot.collectionTimes.get(name)).append("}");
+			first = false;
+		}
+		string.append(first ? "},\n" : "\n\t},\n");
+		string.append("\t\"planners\": {");
+		first = true;
+		for(Map.Entry<String, PlannerState> entry : snapshot.planners.entrySet()) {
+			PlannerState planner = entry.getValue();
+			string.append(first ? "\n" : ",\n");
+			string.append("\t\t").append(quote(entry.getKey())).append(": {\"complete\": ").append(planner.complete);
+			string.append(", \"solved\": ").append(planner.solved);
+			string.append(", \"visited\": ").append(planner.visited);
+			string.append(", \"generated\": ").append(planner.generated);
+			string.append(", \"time\": ").append(planner.time).append("}");
+			first = false;
+		}
+		string.append(first ? "}\n" : "\n\t}\n");
+		string.append("}\n");
+		return string.toString();
+	}
+	
+	private static final String quote(String string) {
+		StringBuilder quoted = new StringBuilder("\"");
+		for(char c : string.toCharArray()) {
+			if(c == '"' || c == '\\')
+				quoted.append('\\').append(c);
+			else if(c < ' ')
+				quoted.append(String.format("\\u%04x", (int) c));
+			else
+				quoted.append(c);
+		}
+		return quoted.append('"').toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.util.Arrays;
+
+/**
+ * A paired test compares two matched samples, such as the time two planners
+ * took on the same runs of the same problems, to decide whether one tends to
+ * be larger than the other. Two non-parametric tests are calculated, neither
+ * of which assumes the values are normally distributed, which is important for
+ * heavy-tailed search costs:
+ * <ul>
+ * <li>The {@link #wilcoxon Wilcoxon signed-rank test}, which considers both the
+ * direction and the relative size of each difference. The p-value uses a
+ * normal approximation with corrections for ties and continuity.</li>
+ * <li>The {@link #sign sign test}, which considers only the direction of each
+ * difference. The p-value is exact.</li>
+ * </ul>
+ * Both p-values are two-sided. Pairs whose values are equal carry no
+ * information about which sample is larger, so they are counted as {@link
+ * #ties ties} and otherwise ignored.
+ * <p>
+ * The {@link #effect effect size} is the matched-pairs rank-biserial
+ * correlation, which says how large the difference is rather than whether it
+ * is real.
+ * 
+ * @author Stephen G. Ware
+ */
+public class PairedTest {
+	
+	/** The number of pairs compared */
+	public final int pairs;
+	
+	/** The number of pairs where the first value is smaller */
+	public final int smaller;
+	
+	/** The number of pairs where the first value is larger */
+	public final int larger;
+	
+	/** The number of pairs where both values are equal */
+	public final int ties;
+	
+	/**
+	 * The two-sided p-value of the Wilcoxon signed-rank test, or 1 if every
+	 * pair is a tie
+	 */
+	public final double wilcoxon;
+	
+	/** The two-sided p-value of the sign test, or 1 if every pair is a tie */
+	public final double sign;
+	
+	/**
+	 * The matched-pairs rank-biserial correlation, between -1 and 1, which is
+	 * positive when the first values tend to be smaller, negative when they
+	 * tend to be larger, and 0 if every pair is a tie
+	 */
+	public final double effect;
+	
+	/**
+	 * Compares two matched samples. The value at each index of the first
+	 * sample is paired with the value at the same index of the second.
+	 * 
+	 * @param first the first sample
+	 * @param second the second sample
+	 * @throws IllegalArgumentException if the samples are not the same length
+	 */
+	public PairedTest(double[] first, double[] second) {
+		if(first.length != second.length)
+			throw new IllegalArgumentException("Paired samples must be the same length.");
+		this.pairs = first.length;
+		double[] differences = new double[pairs];
+		int count = 0;
+		int smaller = 0;
+		for(int i=0; i<pairs; i++) {
+			double difference = second[i] - first[i];
+			if(difference != 0) {
+				differences[count++] = difference;
+				if(difference > 0)
+					smaller++;
+			}
+		}
+		this.smaller = smaller;
+		this.larger = count - smaller;
+		this.ties = pairs - count;
+		if(count == 0) {
+			this.wilcoxon = 1;
+			this.sign = 1;
+			this.effect = 0;
+		}
+		else {
+			// Rank the absolute differences, giving tied values their average rank.
+			Double[] order = new Double[count];
+			for(int i=0; i<count; i++)
+				order[i] = differences[i];
+			Arrays.sort(order, (d1, d2) -> Double.compare(Math.abs(d1), Math.abs(d2)));
+			double positive = 0;
+			double correction = 0;
+			for(int i=0; i<count;) {
+				int j = i;
+				while(j < count && Math.abs(order[j]) == Math.abs(order[i]))
+					j++;
+				double rank = (i + 1 + j) / 2.0;
+				for(int k=i; k<j; k++)
+					if(order[k] > 0)
+						positive += rank;
+				double tied = j - i;
+				correction += tied * tied * tied - tied;
+				i = j;
+			}
+			double total = count * (count + 1.0) / 2;
+			this.effect = (2 * positive - total) / total;
+			double mean = total / 2;
+			double variance = total * (2.0 * count + 1) / 12 - correction / 48;
+			double deviation = Math.abs(positive - mean);
+			if(variance <= 0)
+				this.wilcoxon = 1;
+			else
+				this.wilcoxon = Math.min(1, erfc(Math.max(0, deviation - 0.5) / Math.sqrt(2 * variance)));
+			this.sign = binomial(count, Math.min(smaller, larger));
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return "[pairs=" + pairs + " smaller=" + smaller + " larger=" + larger + " ties=" + ties + " wilcoxon=" + wilcoxon + " sign=" + sign + " effect=" + effect + "]";
+	}
+	
+	/**
+	 * Returns the two-sided p-value of an exact binomial test with probability
+	 * 1/2, which is twice the probability of seeing no more than a given
+	 * number of successes in some number of trials. Probabilities are summed
+	 * in log space so that large numbers of trials do not underflow.
+	 * 
+	 * @param trials the number of trials
+	 * @param successes the smaller of the number of successes and failures
+	 * @return the p-value
+	 */
+	private static final double binomial(int trials, int successes) {
+		double log = -trials * Math.log(2);
+		double sum = 0;
+		for(int i=0; i<=successes; i++) {
+			sum += Math.exp(log);
+			log += Math.log(trials - i) - Math.log(i + 1);
+		}
+		return Math.min(1, 2 * sum);
+	}
+	
+	/**
+	 * Returns the complementary error function of a number, using a Chebyshev
+	 * approximation whose fractional error is less than 1.2 &times; 10^-7.
+	 * 
+	 * @param x a number
+	 * @return the complementary error function of that number
+	 */
+	private static final double erfc(double x) {
+		double z = Math.abs(x);
+		double t = 1 / (1 + 0.5 * z);
+		double result = t * Math.exp(-z * z - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418 + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587 + t * (-0.82215223 + t * 0.17087277)))))))));
+		return x >= 0 ? result : 2 - result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * The phases of work done to {@link Benchmark#load(Status) load} a {@link
+ * Benchmark benchmark problem} and run a {@link TestSuite.Test test} on it,
+ * which can be timed separately with a {@link PhaseTimer phase timer}.
+ * 
+ * @author Stephen G. Ware
+ */
+public enum Phase {
+	
+	/** Reading and parsing the problem file, which is done once per problem */
+	PARSE,
+	
+	/**
+	 * Compiling the problem for a {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionPlanner planner}, which is done once
+	 * per test
+	 */
+	COMPILE,
+	
+	/**
+	 * {@link edu.uky.cs.nil.sabre.comp.ActionShuffler Shuffling} the order of
+	 * the compiled problem's actions, which is done once per test after the
+	 * first run if {@link Main#SHUFFLE} is true
+	 */
+	SHUFFLE,
+	
+	/**
+	 * Configuring the planner and creating the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch search}, which is done once
+	 * per test
+	 */
+	SETUP,
+	
+	/** Running the search, which is done once per test */
+	SEARCH;
+}
\ No newline at end of file
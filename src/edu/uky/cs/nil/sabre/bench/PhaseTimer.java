@@ -0,0 +1,121 @@
+package edu.uky.cs.nil.sabre.bench;
+
+/**
+ * A phase timer measures how many nanoseconds are spent in each {@link Phase
+ * phase} of work. Only one phase is timed at once; {@link #start(Phase)
+ * starting} a phase stops the phase currently being timed. If the same phase
+ * is timed more than once, the times are added together. Each phase timed is
+ * also reported as an {@link Events.PhaseEvent event} to the Java Flight
+ * Recorder. Phase timers are not thread safe.
+ * 
+ * @author Stephen G. Ware
+ */
+public class PhaseTimer {
+	
+	/** The total nanoseconds spent in each phase, indexed by ordinal */
+	private final long[] times = new long[Phase.values().length];
+	
+	/** Whether each phase has been timed, indexed by ordinal */
+	private final boolean[] timed = new boolean[times.length];
+	
+	/** The phase currently being timed, or null if none */
+	private Phase phase = null;
+	
+	/** The {@link System#nanoTime() time} the current phase started */
+	private long start;
+	
+	/** The flight recorder event for the current phase, or null if none */
+	private Events.PhaseEvent event = null;
+	
+	/** The name of the problem reported with each event, or null */
+	private final String problem;
+	
+	/** The name of the planner reported with each event, or null */
+	private final String planner;
+	
+	/** The run number reported with each event, or 0 */
+	private final int run;
+	
+	/**
+	 * Constructs a new phase timer whose {@link Events.PhaseEvent events}
+	 * identify the problem, planner, and run they belong to.
+	 * 
+	 * @param problem the name of the problem, or null
+	 * @param planner the name of the planner, or null
+	 * @param run the number of times the planner has attempted the problem,
+	 * or 0
+	 */
+	public PhaseTimer(String problem, String planner, int run) {
+		this.problem = problem;
+		this.planner = planner;
+		this.run = run;
+	}
+	
+	/**
+	 * Constructs a new phase timer.
+	 */
+	public PhaseTimer() {
+		this(null, null, 0);
+	}
+	
+	@Override
+	public String toString() {
+		String string = "";
+		for(Phase phase : Phase.values())
+			if(timed[phase.ordinal()])
+				string += " " + phase + "=" + times[phase.ordinal()] + "ns";
+		return "[" + string.trim() + "]";
+	}
+	
+	/**
+	 * Stops timing the current phase, if any, and starts timing a new phase.
+	 * 
+	 * @param phase the phase to start timing
+	 */
+	public void start(Phase phase) {
+		long now = System.nanoTime();
+		stop(now);
+		this.phase = phase;
+		this.start = now;
+		this.event = new Events.PhaseEvent(phase, problem, planner, run);
+		event.begin();
+	}
+	
+	/**
+	 * Stops timing the current phase, if any.
+	 */
+	public void stop() {
+		stop(System.nanoTime());
+	}
+	
+	private final void stop(long now) {
+		if(phase != null) {
+			add(phase, now - start);
+			event.commit();
+		}
+		phase = null;
+		event = null;
+	}
+	
+	/**
+	 * Adds time to a phase that was measured some other way.
+	 * 
+	 * @param phase the phase
+	 * @param nanoseconds the time to add
+	 */
+	public void add(Phase phase, long nanoseconds) {
+		times[phase.ordinal()] += nanoseconds;
+		timed[phase.ordinal()] = true;
+	}
+	
+	/**
+	 * Returns the total time spent in a phase, or null if the phase was never
+	 * timed.
+	 * 
+	 * @param phase the phase
+	 * @return the time in nanoseconds, or null
+	 */
+	public Long get(Phase phase) {
+		return timed[phase.ordinal()] ? times[phase.ordinal()] : null;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,263 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import edu.uky.cs.nil.sabre.Settings;
+import edu.uky.cs.nil.sabre.comp.CompiledProblem;
+import edu.uky.cs.nil.sabre.prog.ProgressionCost;
+import edu.uky.cs.nil.sabre.prog.ProgressionCostFactory;
+import edu.uky.cs.nil.sabre.prog.ProgressionNode;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * A {@link ProgressionCost heuristic function} that measures the performance
+ * of {@link #parent some other heuristic} it is wrapped around. Each time this
+ * heuristic evaluates a {@link ProgressionNode progression node}, it defers to
+ * its parent and records how long the parent took and what value it returned
+ * in a {@link Profile profile}.
+ * <p>
+ * Planners create a new heuristic for each search, so a profiling heuristic
+ * profiles exactly one search. The {@link Factory factory} remembers the last
+ * heuristic it created on each thread so that the thread which ran the search
+ * can {@link #takeProfile() collect the profile} afterward.
+ * <p>
+ * Recording a call takes constant time and allocates no memory, but timing
+ * every call still adds to the search's time, so the time of a search with a
+ * profiled heuristic should not be compared to the time of one without.
+ * 
+ * @author Stephen G. Ware
+ */
+public class ProfilingHeuristic implements ProgressionCost {
+	
+	/**
+	 * A {@link ProgressionCostFactory factory} used to create {@link
+	 * ProfilingHeuristic profiling heuristics}.
+	 */
+	public static class Factory implements ProgressionCostFactory {
+		
+		/** Serial version ID */
+		private static final long serialVersionUID = Settings.VERSION_UID;
+		
+		/**
+		 * The heuristic factory used to build the heuristic to profile
+		 */
+		public final ProgressionCostFactory parent;
+		
+		/**
+		 * Constructs a factory for creating profiling heuristics.
+		 * 
+		 * @param parent the factory for creating the heuristic to profile
+		 */
+		public Factory(ProgressionCostFactory parent) {
+			this.parent = parent;
+		}
+		
+		@Override
+		public String toString() {
+			return ProfilingHeuristic.toString(parent);
+		}
+		
+		@Override
+		public ProfilingHeuristic getCost(CompiledProblem problem, Status status) {
+			ProfilingHeuristic heuristic = new ProfilingHeuristic(parent.getCost(problem, status));
+			LAST.set(heuristic.profile);
+			return heuristic;
+		}
+	}
+	
+	/**
+	 * A record of the performance of one profiling heuristic.
+	 */
+	public static final class Profile {
+		
+		/** The time in nanoseconds each evaluation took */
+		public final Histogram time = new Histogram();
+		
+		/**
+		 * The number of finite values below each integer, where the last
+		 * bucket also counts every larger value
+		 */
+		private final long[] buckets = new long[VALUE_BUCKETS];
+		
+		/** The number of finite values returned */
+		private long count = 0;
+		
+		/** The running mean of the finite values */
+		private double mean = 0;
+		
+		/**
+		 * The running sum of squared differences from the mean, which is used
+		 * to calculate the variance
+		 */
+		private double squares = 0;
+		
+		/** The smallest finite value */
+		private double min = Double.POSITIVE_INFINITY;
+		
+		/** The largest finite value */
+		private double max = Double.NEGATIVE_INFINITY;
+		
+		/** The number of evaluations that returned positive infinity */
+		private long infinite = 0;
+		
+		private Profile() {
+			// Empty
+		}
+		
+		@Override
+		public String toString() {
+			return "[calls=" + getCalls() + " time=" + time + " values=[count=" + count + " min=" + getMin() + " max=" + getMax() + " mean=" + getMean() + " median=" + getMedian() + "] infinite=" + infinite + "]";
+		}
+		
+		private void add(double value) {
+			int bucket = value < VALUE_BUCKETS - 1 ? (int) Math.max(0, value) : VALUE_BUCKETS - 1;
+			buckets[bucket]++;
+			count++;
+			double difference = value - mean;
+			mean += difference / count;
+			squares += difference * (value - mean);
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		
+		/**
+		 * Returns the number of times the heuristic was evaluated.
+		 * 
+		 * @return the number of evaluations
+		 */
+		public long getCalls() {
+			return time.getCount();
+		}
+		
+		/**
+		 * Returns the number of evaluations that returned {@link
+		 * Double#POSITIVE_INFINITY positive infinity}, meaning the node was
+		 * judged to be a dead end.
+		 * 
+		 * @return the number of infinite evaluations
+		 */
+		public long getInfinite() {
+			return infinite;
+		}
+		
+		/**
+		 * Returns the smallest finite value returned, or null if there were
+		 * none.
+		 * 
+		 * @return the smallest value, or null
+		 */
+		public Double getMin() {
+			return count == 0 ? null : min;
+		}
+		
+		/**
+		 * Returns the largest finite value returned, or null if there were
+		 * none.
+		 * 
+		 * @return the largest value, or null
+		 */
+		public Double getMax() {
+			return count == 0 ? null : max;
+		}
+		
+		/**
+		 * Returns the mean of the finite values returned, or null if there
+		 * were none.
+		 * 
+		 * @return the mean, or null
+		 */
+		public Double getMean() {
+			return count == 0 ? null : mean;
+		}
+		
+		/**
+		 * Returns the sample standard deviation of the finite values returned,
+		 * or null if there were fewer than two.
+		 * 
+		 * @return the standard deviation, or null
+		 */
+		public Double getStandardDeviation() {
+			return count < 2 ? null : Math.sqrt(squares / (count - 1));
+		}
+		
+		/**
+		 * Returns the median of the finite values returned, or null if there
+		 * were none. Values are counted in buckets one wide, so the median is
+		 * exact when the values are integers less than {@link #VALUE_BUCKETS}
+		 * and rounded down otherwise; if it falls among larger values, it is
+		 * interpolated between the last bucket and the largest value.
+		 * 
+		 * @return the median, or null
+		 */
+		public Double getMedian() {
+			if(count == 0)
+				return null;
+			double rank = Math.max(1, Math.ceil(count / 2.0));
+			long before = 0;
+			for(int i=0; i<buckets.length - 1; i++) {
+				if(before + buckets[i] >= rank)
+					return Math.max(min, i);
+				before += buckets[i];
+			}
+			double lower = buckets.length - 1;
+			return lower + (max - lower) * (rank - before) / buckets[buckets.length - 1];
+		}
+	}
+	
+	/**
+	 * The number of buckets used to count heuristic values, so that the
+	 * {@link Profile#getMedian() median} of integer values below this is exact
+	 */
+	public static final int VALUE_BUCKETS = 1024;
+	
+	/** The profile of the last heuristic created by the factory on each thread */
+	private static final ThreadLocal<Profile> LAST = new ThreadLocal<>();
+	
+	/**
+	 * Returns the profile of the last profiling heuristic that a {@link
+	 * Factory factory} created on the current thread and forgets it, so that
+	 * the next call returns null unless another heuristic has been created.
+	 * 
+	 * @return the profile, or null if no profiling heuristic has been created
+	 * on this thread since the last call
+	 */
+	public static Profile takeProfile() {
+		Profile profile = LAST.get();
+		LAST.remove();
+		return profile;
+	}
+	
+	private static final String toString(Object parent) {
+		return "profiled: " + parent;
+	}
+	
+	/** The heuristic being profiled */
+	public final ProgressionCost parent;
+	
+	/** The record of the parent heuristic's performance */
+	public final Profile profile = new Profile();
+	
+	/**
+	 * Constructs a new profiling heuristic.
+	 * 
+	 * @param parent the heuristic to profile
+	 */
+	public ProfilingHeuristic(ProgressionCost parent) {
+		this.parent = parent;
+	}
+	
+	@Override
+	public String toString() {
+		return toString(parent);
+	}
+	
+	@Override
+	public <N> double evaluate(ProgressionNode<N> node) {
+		long start = System.nanoTime();
+		double value = parent.evaluate(node);
+		profile.time.add(System.nanoTime() - start);
+		if(value == Double.POSITIVE_INFINITY)
+			profile.infinite++;
+		else
+			profile.add(value);
+		return value;
+	}
+}
\ No newline at end of file
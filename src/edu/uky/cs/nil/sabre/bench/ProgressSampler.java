@@ -0,0 +1,308 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.uky.cs.nil.sabre.prog.ProgressionSearch;
+
+/**
+ * A progress sampler periodically records how many nodes each running {@link
+ * ProgressionSearch search} has {@link ProgressionSearch#getVisited() visited}
+ * and {@link ProgressionSearch#getGenerated() generated} and how much of the
+ * heap is in use, so that a test's {@link Series series} of {@link Sample
+ * samples} shows how the rate of search changed while it ran. A search that
+ * slows down while the heap fills is likely suffering from memory pressure,
+ * while one that slows down with a steady heap is likely spending more time
+ * on each node.
+ * <p>
+ * A sampler begins sampling on a background thread when it is constructed and
+ * stops when it is {@link #close() closed}. Tests are sampled between calls to
+ * {@link #start(TestSuite.Test, ProgressionSearch)} and {@link
+ * #stop(TestSuite.Test)}, which always record a sample, so every series has a
+ * first and last sample even if the test ran for less than one interval.
+ * Search counts are read while the search is running, so they may be slightly
+ * out of date. The heap is shared by all tests, so heap use reflects every
+ * test running at the time. The methods of this class are thread safe.
+ * 
+ * @author Stephen G. Ware
+ */
+public class ProgressSampler implements Runnable, AutoCloseable {
+	
+	/**
+	 * The progress of one search at one moment.
+	 */
+	public static final class Sample {
+		
+		/** The milliseconds since the test started */
+		public final long time;
+		
+		/** The number of nodes visited so far */
+		public final long visited;
+		
+		/** The number of nodes generated so far */
+		public final long generated;
+		
+		/** The number of bytes of heap in use */
+		public final long heap;
+		
+		/**
+		 * Constructs a new sample.
+		 * 
+		 * @param time the milliseconds since the test started
+		 * @param visited the number of nodes visited so far
+		 * @param generated the number of nodes generated so far
+		 * @param heap the number of bytes of heap in use
+		 */
+		public Sample(long time, long visited, long generated, long heap) {
+			this.time = time;
+			this.visited = visited;
+			this.generated = generated;
+			this.heap = heap;
+		}
+		
+		@Override
+		public String toString() {
+			return time + "," + visited + "," + generated + "," + heap;
+		}
+	}
+	
+	/**
+	 * The samples taken from one test, in the order they were taken.
+	 */
+	public static final class Series {
+		
+		/** The header of the CSV file the series is {@link #write(File) written} to */
+		public static final String HEADER = "Time (ms),Nodes Visited,Nodes Generated,Heap Used (bytes)";
+		
+		/** The samples in the order they were taken */
+		public final List<Sample> samples;
+		
+		private Series(List<Sample> samples) {
+			this.samples = Collections.unmodifiableList(samples);
+		}
+		
+		@Override
+		public String toString() {
+			return "[" + samples.size() + " samples]";
+		}
+		
+		/**
+		 * Returns the rate of search, in nodes visited per second, between
+		 * two moments given as fractions of the test's duration. For example,
+		 * {@code getRate(0, 1.0 / 3)} is the rate during the first third of
+		 * the test. The number of nodes visited at each moment is interpolated
+		 * from the nearest samples. If the test took no measurable time, this
+		 * method returns null.
+		 * 
+		 * @param from the start of the period, between 0 and 1
+		 * @param to the end of the period, between 0 and 1 and after the start
+		 * @return nodes visited per second during that period, or null
+		 */
+		public Double getRate(double from, double to) {
+			long duration = samples.get(samples.size() - 1).time;
+			if(duration <= 0 || to <= from)
+				return null;
+			double start = from * duration;
+			double end = to * duration;
+			return (getVisited(end) - getVisited(start)) * 1000 / (end - start);
+		}
+		
+		private final double getVisited(double time) {
+			Sample before = samples.get(0);
+			for(Sample after : samples) {
+				if(after.time >= time) {
+					if(after.time == before.time)
+						return after.visited;
+					return before.visited + (after.visited - before.visited) * (time - before.time) / (after.time - before.time);
+				}
+				before = after;
+			}
+			return before.visited;
+		}
+		
+		/**
+		 * Returns the largest number of bytes of heap in use in any sample.
+		 * 
+		 * @return the maximum heap used in bytes
+		 */
+		public long getMaxHeap() {
+			long max = 0;
+			for(Sample sample : samples)
+				max = Math.max(max, sample.heap);
+			return max;
+		}
+		
+		/**
+		 * Writes the samples to a CSV file, one sample per line after a
+		 * {@link #HEADER header}.
+		 * 
+		 * @param file the file to write
+		 * @throws IOException if an exception occurs while writing the file
+		 */
+		public void write(File file) throws IOException {
+			try(BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+				writer.write(HEADER);
+				writer.write("\n");
+				for(Sample sample : samples) {
+					writer.write(sample.toString());
+					writer.write("\n");
+				}
+			}
+		}
+	}
+	
+	/**
+	 * A search that is being sampled.
+	 */
+	private static final class Running {
+		
+		/** The search */
+		public final ProgressionSearch search;
+		
+		/** The {@link System#nanoTime() time} the test started */
+		public final long start = System.nanoTime();
+		
+		/** The samples taken so far */
+		public final ArrayList<Sample> samples = new ArrayList<>();
+		
+		public Running(ProgressionSearch search) {
+			this.search = search;
+		}
+		
+		public void sample() {
+			Runtime runtime = Runtime.getRuntime();
+			long time = (System.nanoTime() - start) / 1000000;
+			samples.add(new Sample(time, search.getVisited(), search.getGenerated(), runtime.totalMemory() - runtime.freeMemory()));
+		}
+	}
+	
+	/** The milliseconds between samples */
+	public final long interval;
+	
+	/**
+	 * The directory where each test's series is written when it stops, or
+	 * null if series are not written
+	 */
+	public final File directory;
+	
+	/** The tests currently being sampled */
+	private final Map<TestSuite.Test, Running> running = new IdentityHashMap<>();
+	
+	/** The background thread that takes samples, or null if not sampling */
+	private final Thread thread;
+	
+	/**
+	 * Constructs a new progress sampler and begins sampling.
+	 * 
+	 * @param interval the milliseconds between samples, or 0 to only sample
+	 * each test when it starts and stops
+	 * @param directory the directory where each test's series will be
+	 * written when it stops, or null if series should not be written
+	 */
+	public ProgressSampler(long interval, File directory) {
+		this.interval = interval;
+		this.directory = directory;
+		if(directory != null)
+			directory.mkdirs();
+		if(interval > 0) {
+			thread = new Thread(this, "Progress Sampler");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		else
+			thread = null;
+	}
+	
+	/**
+	 * Takes a sample of every running test once per {@link #interval
+	 * interval} until the sampler is {@link #close() closed}.
+	 */
+	@Override
+	public void run() {
+		try {
+			while(!Thread.currentThread().isInterrupted()) {
+				Thread.sleep(interval);
+				synchronized(running) {
+					for(Running test : running.values())
+						test.sample();
+				}
+			}
+		}
+		catch(InterruptedException e) {
+			// The sampler has been closed.
+		}
+	}
+	
+	/**
+	 * Begins sampling a test's search and takes its first sample.
+	 * 
+	 * @param test the test
+	 * @param search the search the test is running
+	 */
+	public void start(TestSuite.Test test, ProgressionSearch search) {
+		Running sampled = new Running(search);
+		synchronized(running) {
+			sampled.sample();
+			running.put(test, sampled);
+		}
+	}
+	
+	/**
+	 * Takes a test's last sample, stops sampling it, and writes its series to
+	 * a file in the {@link #directory directory}, if any.
+	 * 
+	 * @param test the test
+	 * @return the test's series of samples, or null if the test was not being
+	 * sampled
+	 * @throws IOException if an exception occurs while writing the series
+	 */
+	public Series stop(TestSuite.Test test) throws IOException {
+		Running sampled;
+		synchronized(running) {
+			sampled = running.remove(test);
+			if(sampled == null)
+				return null;
+			sampled.sample();
+		}
+		Series series = new Series(sampled.samples);
+		if(directory != null)
+			series.write(new File(directory, getFileName(test)));
+		return series;
+	}
+	
+	/**
+	 * Stops sampling.
+	 */
+	@Override
+	public void close() {
+		if(thread != null) {
+			thread.interrupt();
+			try {
+				thread.join();
+			}
+			catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+	
+	/**
+	 * Returns the name of the file a test's series is written to, made from the
+	 * problem name, planner name, and run number with any characters that are
+	 * not safe in file names replaced by underscores.
+	 * 
+	 * @param test the test
+	 * @return the file name
+	 */
+	public static String getFileName(TestSuite.Test test) {
+		String name = test.problem.name + "-" + test.planner.name + "-" + test.run;
+		return name.replaceAll("[^A-Za-z0-9_.-]", "_") + ".csv";
+	}
+}
\ No newline at end of file
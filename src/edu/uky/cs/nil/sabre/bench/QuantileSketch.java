@@ -0,0 +1,267 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.util.Arrays;
+
+/**
+ * A quantile sketch estimates quantiles, such as the median or the 90th
+ * percentile, of a stream of numbers using a bounded amount of memory.
+ * <p>
+ * The sketch stores values as weighted centroids. Until more than {@link
+ * #capacity} values have been added, each value is its own centroid, so
+ * quantiles of small collections (such as the runs of one planner on one
+ * problem) are calculated exactly by linear interpolation between the closest
+ * ranks. Once there are too many centroids, adjacent centroids are combined
+ * into one whose mean is their weighted average, in the style of Dunning's
+ * merging t-digest. Centroids near the middle of the distribution may
+ * represent many values, but centroids near the tails represent only a few.
+ * This keeps memory bounded while keeping extreme quantiles accurate, which is
+ * important for heavy-tailed search costs.
+ * <p>
+ * Two sketches can be {@link #merge(QuantileSketch) merged}, so quantiles for
+ * a large collection can be estimated in parallel. Sketches are not thread
+ * safe.
+ * 
+ * @author Stephen G. Ware
+ */
+public class QuantileSketch {
+	
+	/** The default maximum number of centroids a sketch keeps */
+	public static final int DEFAULT_CAPACITY = 256;
+	
+	/** The maximum number of centroids this sketch keeps */
+	public final int capacity;
+	
+	/** The means of the centroids, in ascending order */
+	private double[] means;
+	
+	/** The number of values represented by each centroid */
+	private long[] weights;
+	
+	/** The number of centroids */
+	private int size = 0;
+	
+	/**
+	 * Values that have been added but not yet merged into the centroids, which
+	 * grows as needed up to the sketch's capacity
+	 */
+	private double[] buffer;
+	
+	/** The number of values in the buffer */
+	private int buffered = 0;
+	
+	/** The total number of values added */
+	private long count = 0;
+	
+	/** The smallest value added */
+	private double min = Double.POSITIVE_INFINITY;
+	
+	/** The largest value added */
+	private double max = Double.NEGATIVE_INFINITY;
+	
+	/**
+	 * Constructs a new, empty sketch with a given capacity.
+	 * 
+	 * @param capacity the maximum number of centroids to keep, and therefore
+	 * the number of values for which quantiles will be exact
+	 * @throws IllegalArgumentException if the capacity is less than 2
+	 */
+	public QuantileSketch(int capacity) {
+		if(capacity < 2)
+			throw new IllegalArgumentException("A quantile sketch must have a capacity of at least 2.");
+		this.capacity = capacity;
+		this.means = new double[0];
+		this.weights = new long[0];
+		this.buffer = new double[Math.min(capacity, 16)];
+	}
+	
+	/**
+	 * Constructs a new, empty sketch with the {@link #DEFAULT_CAPACITY default
+	 * capacity}.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_CAPACITY);
+	}
+	
+	/**
+	 * Adds a value to the sketch.
+	 * 
+	 * @param value the value to add
+	 */
+	public void add(double value) {
+		count++;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+		if(buffered == buffer.length) {
+			if(buffer.length < capacity)
+				buffer = Arrays.copyOf(buffer, Math.min(capacity, buffer.length * 2));
+			else
+				flush();
+		}
+		buffer[buffered++] = value;
+	}
+	
+	/**
+	 * Adds all the values that were added to another sketch to this one. The
+	 * other sketch is not modified.
+	 * 
+	 * @param other the sketch whose values will be added to this one
+	 */
+	public void merge(QuantileSketch other) {
+		if(other.count == 0)
+			return;
+		flush();
+		double[] values = Arrays.copyOf(other.buffer, other.buffered);
+		Arrays.sort(values);
+		long[] ones = new long[values.length];
+		Arrays.fill(ones, 1);
+		insert(other.means, other.weights, other.size);
+		insert(values, ones, values.length);
+		count += other.count;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+	
+	/**
+	 * Returns the number of values added to this sketch.
+	 * 
+	 * @return the number of values
+	 */
+	public long getCount() {
+		return count;
+	}
+	
+	/**
+	 * Checks whether the quantiles reported by this sketch are exact, which is
+	 * true as long as no centroids have been merged.
+	 * 
+	 * @return true if quantiles are exact, false if they are estimates
+	 */
+	public boolean isExact() {
+		flush();
+		return size == count;
+	}
+	
+	/**
+	 * Returns the value at a given quantile, or null if no values have been
+	 * added. Quantiles between two ranks are linearly interpolated.
+	 * 
+	 * @param quantile the quantile, between 0 (the minimum) and 1 (the
+	 * maximum)
+	 * @return the value at that quantile, or null
+	 * @throws IllegalArgumentException if the quantile is not between 0 and 1
+	 */
+	public Double getQuantile(double quantile) {
+		if(quantile < 0 || quantile > 1)
+			throw new IllegalArgumentException("A quantile must be between 0 and 1.");
+		if(count == 0)
+			return null;
+		flush();
+		double rank = quantile * (count - 1);
+		// Each centroid is placed at the middle of the ranks it represents.
+		double previousRank = 0;
+		double previousMean = min;
+		long before = 0;
+		for(int i=0; i<size; i++) {
+			double center = before + (weights[i] - 1) / 2.0;
+			if(rank <= center) {
+				if(center == previousRank)
+					return means[i];
+				return previousMean + (means[i] - previousMean) * (rank - previousRank) / (center - previousRank);
+			}
+			previousRank = center;
+			previousMean = means[i];
+			before += weights[i];
+		}
+		double last = count - 1;
+		if(last == previousRank)
+			return max;
+		return previousMean + (max - previousMean) * (rank - previousRank) / (last - previousRank);
+	}
+	
+	/**
+	 * Merges the buffered values into the centroids.
+	 */
+	private final void flush() {
+		if(buffered == 0)
+			return;
+		double[] values = Arrays.copyOf(buffer, buffered);
+		Arrays.sort(values);
+		long[] ones = new long[values.length];
+		Arrays.fill(ones, 1);
+		buffered = 0;
+		insert(values, ones, values.length);
+	}
+	
+	/**
+	 * Merges a sorted list of centroids into this sketch's centroids and then
+	 * {@link #compress(double[], long[], int, double) compresses} them until
+	 * there are no more than {@link #capacity}.
+	 * 
+	 * @param means the means of the new centroids, in ascending order
+	 * @param weights the weights of the new centroids
+	 * @param length the number of new centroids
+	 */
+	private final void insert(double[] means, long[] weights, int length) {
+		double[] mergedMeans = new double[size + length];
+		long[] mergedWeights = new long[size + length];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while(i < size || j < length) {
+			if(j == length || (i < size && this.means[i] <= means[j])) {
+				mergedMeans[k] = this.means[i];
+				mergedWeights[k++] = this.weights[i++];
+			}
+			else {
+				mergedMeans[k] = means[j];
+				mergedWeights[k++] = weights[j++];
+			}
+		}
+		int size = k;
+		double compression = capacity / 2.0;
+		while(size > capacity) {
+			size = compress(mergedMeans, mergedWeights, size, compression);
+			compression /= 2;
+		}
+		this.means = mergedMeans;
+		this.weights = mergedWeights;
+		this.size = size;
+	}
+	
+	/**
+	 * Combines adjacent centroids in a single pass as long as the weight of
+	 * the combined centroid does not exceed a limit that depends on where the
+	 * centroid falls in the distribution. Centroids near the middle may grow
+	 * large, but centroids near the tails must stay small, so extreme
+	 * quantiles remain accurate.
+	 * 
+	 * @param means the means of the centroids, in ascending order, which will
+	 * be modified
+	 * @param weights the weights of the centroids, which will be modified
+	 * @param size the number of centroids
+	 * @param compression larger values allow more, smaller centroids
+	 * @return the number of centroids after compression
+	 */
+	private static final int compress(double[] means, long[] weights, int size, double compression) {
+		double total = 0;
+		for(int i=0; i<size; i++)
+			total += weights[i];
+		int last = 0;
+		double before = 0;
+		for(int i=1; i<size; i++) {
+			double proposed = weights[last] + weights[i];
+			double quantile = (before + proposed / 2) / total;
+			if(proposed <= Math.max(1, 4 * total * quantile * (1 - quantile) / compression)) {
+				means[last] = (means[last] * weights[last] + means[i] * weights[i]) / proposed;
+				weights[last] += weights[i];
+			}
+			else {
+				before += weights[last];
+				last++;
+				means[last] = means[i];
+				weights[last] = weights[i];
+			}
+		}
+		return last + 1;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import edu.uky.cs.nil.sabre.comp.ActionShuffler;
+import edu.uky.cs.nil.sabre.comp.CompiledAction;
+import edu.uky.cs.nil.sabre.comp.CompiledProblem;
+import edu.uky.cs.nil.sabre.prog.ProgressionPlanner;
+import edu.uky.cs.nil.sabre.prog.ProgressionSearch;
+import edu.uky.cs.nil.sabre.search.Result;
+import edu.uky.cs.nil.sabre.util.Worker;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+import jdk.jfr.Recording;
+
+/**
+ * Reruns exactly one test from the {@link CSVReportPrinter CSV tables} saved
+ * in the {@link #DIRECTORY results directory} and checks that it visits and
+ * generates the same number of nodes it did when it was recorded.
+ * <p>
+ * The test is given by the name of the problem, the name of the planner, and
+ * the run number. The problem and planner are found by name in {@link
+ * Main#getProblems()} and {@link Main#getPlanners()}, but the search uses the
+ * recorded temporal and epistemic limits, node and time limits, and {@link
+ * Report#RESULTS_SEED shuffle seed}, so the test can be replayed even if those
+ * settings have changed in {@link Main}. Any difference between the recorded
+ * and current problem goal, planner settings, and {@link Report#configuration
+ * configuration} (such as the Sabre version or JVM arguments) is printed as a
+ * warning, since it may explain a test that does not reproduce.
+ * <p>
+ * After the required arguments, {@code profile} {@link ProfilingHeuristic
+ * profiles} the planner's heuristic and prints the profile, and {@code record}
+ * saves a {@link Events Java Flight Recorder recording} of the search to
+ * {@code replay.jfr}. The program exits with status 1 if the counts do not
+ * reproduce and 2 if the arguments are invalid. Searches that were stopped by
+ * a time limit cannot be expected to reproduce exactly.
+ * 
+ * @author Stephen G. Ware
+ */
+public class Replay {
+	
+	/** The directory the recorded tables are read from */
+	public static final String DIRECTORY = "results";
+	
+	/** The file a recording of the search is saved to */
+	public static final String RECORDING = "replay.jfr";
+	
+	/**
+	 * Replays one test and reports whether it reproduced.
+	 * 
+	 * @param args the problem name, planner name, and run number, optionally
+	 * followed by {@code profile} and {@code record}
+	 * @throws Exception if an exception occurs while reading the results or
+	 * running the test
+	 */
+	public static void main(String[] args) throws Exception {
+		if(args.length < 3) {
+			System.err.println("Usage: Replay <problem> <planner> <run> [profile] [record]");
+			System.exit(2);
+		}
+		List<String> options = Arrays.asList(args).subList(3, args.length);
+		for(String option : options) {
+			if(!option.equals("profile") && !option.equals("record")) {
+				System.err.println("Unknown option \"" + option + "\".");
+				System.exit(2);
+			}
+		}
+		String problem = args[0];
+		String planner = args[1];
+		int run;
+		try {
+			run = Integer.parseInt(args[2]);
+		}
+		catch(NumberFormatException e) {
+			System.err.println("\"" + args[2] + "\" is not a run number.");
+			System.exit(2);
+			return;
+		}
+		Map<String, Object> result = find(read("results"), Report.RESULTS_PROBLEM, problem, Report.RESULTS_PLANNER, planner, Report.RESULTS_RUN, (long) run);
+		if(result == null) {
+			System.err.println("Run " + run + " of planner \"" + planner + "\" on problem \"" + problem + "\" was not found in " + DIRECTORY + ".");
+			System.exit(2);
+		}
+		boolean reproduced = Worker.get(status -> replay(result, options.contains("profile"), options.contains("record"), status), 1, TimeUnit.MINUTES);
+		System.exit(reproduced ? 0 : 1);
+	}
+	
+	private static final List<Map<String, Object>> read(String table) throws Exception {
+		File file = new File(DIRECTORY, table + ".csv");
+		if(!file.exists())
+			return List.of();
+		try(CSVTableReader reader = new CSVTableReader(file)) {
+			return reader.readRows();
+		}
+	}
+	
+	private static final Map<String, Object> find(List<Map<String, Object>> rows, Object...pairs) {
+		for(Map<String, Object> row : rows) {
+			boolean match = true;
+			for(int i=0; i<pairs.length && match; i+=2)
+				match = Objects.equals(row.get(pairs[i]), pairs[i + 1]);
+			if(match)
+				return row;
+		}
+		return null;
+	}
+	
+	private static boolean replay(Map<String, Object> recorded, boolean profile, boolean record, Status status) throws Exception {
+		String name = (String) recorded.get(Report.RESULTS_PROBLEM);
+		int run = ((Number) recorded.get(Report.RESULTS_RUN)).intValue();
+		Benchmark problem = null;
+		for(Benchmark benchmark : Main.getProblems())
+			if(benchmark.name.equals(name))
+				problem = benchmark;
+		ProgressionPlanner planner = null;
+		for(ProgressionPlanner p : Main.getPlanners())
+			if(p.name.equals(recorded.get(Report.RESULTS_PLANNER)))
+				planner = p;
+		if(problem == null || planner == null)
+			throw new IllegalArgumentException("The problem or planner no longer exists in Main.");
+		problem.load(status);
+		// Use the recorded limits, falling back on the current ones for
+		// results saved before they were recorded.
+		Map<String, Object> problemRow = find(read("problems"), Report.PROBLEMS_NAME, name);
+		Map<String, Object> plannerRow = find(read("planners"), Report.PLANNERS_NAME, planner.name);
+		int atl = get(problemRow, Report.PROBLEMS_ATL, problem.atl).intValue();
+		int ctl = get(problemRow, Report.PROBLEMS_CTL, problem.ctl).intValue();
+		int el = get(problemRow, Report.PROBLEMS_EL, problem.el).intValue();
+		long nodes = get(plannerRow, Report.PLANNERS_SEARCH_LIMIT, planner.getSearchLimit()).longValue();
+		long space = get(plannerRow, Report.PLANNERS_SPACE_LIMIT, planner.getSpaceLimit()).longValue();
+		long time = get(plannerRow, Report.PLANNERS_TIME_LIMIT, planner.getTimeLimit()).longValue();
+		Long seed = recorded.containsKey(Report.RESULTS_SEED) ? (Long) recorded.get(Report.RESULTS_SEED) : problem.getShuffleSeed(run);
+		// Warn about anything else that has changed since the test ran.
+		if(problemRow != null)
+			warn("goal of problem \"" + name + "\"", problemRow.get(Report.PROBLEMS_GOAL), problem.goal);
+		if(plannerRow != null) {
+			warn("search method of planner \"" + planner.name + "\"", plannerRow.get(Report.PLANNERS_SEARCH), planner.getMethod().toString());
+			warn("cost of planner \"" + planner.name + "\"", plannerRow.get(Report.PLANNERS_COST), planner.getCost().toString());
+			warn("heuristic of planner \"" + planner.name + "\"", plannerRow.get(Report.PLANNERS_HEURISTIC), planner.getHeuristic().toString());
+		}
+		Table configuration = new Report().configuration;
+		for(Map<String, Object> row : read("configuration")) {
+			Object setting = row.get(Report.CONFIGURATION_SETTING);
+			for(Table.Row current : configuration.rows)
+				if(current.get(Report.CONFIGURATION_SETTING).get().equals(setting))
+					warn(setting.toString(), row.get(Report.CONFIGURATION_VALUE), current.get(Report.CONFIGURATION_VALUE).get());
+		}
+		System.out.println("Replaying run " + run + " of planner \"" + planner.name + "\" on problem \"" + name + "\" with atl=" + atl + " ctl=" + ctl + " el=" + el + " nodes=" + nodes + " space=" + space + " time=" + time + " seed=" + seed + ".");
+		if(profile && !(planner.getHeuristic() instanceof ProfilingHeuristic.Factory))
+			planner.setHeuristic(new ProfilingHeuristic.Factory(planner.getHeuristic()));
+		CompiledProblem compiled = planner.compile(problem.getProblem(), status);
+		if(seed != null)
+			compiled = ActionShuffler.compile(compiled, new Random(seed), status);
+		long spaceLimit = planner.getSpaceLimit();
+		planner.setSpaceLimit(space);
+		ProgressionSearch search;
+		try {
+			search = problem.getSearch(planner, compiled, atl, ctl, el, nodes, time, status);
+		}
+		finally {
+			planner.setSpaceLimit(spaceLimit);
+		}
+		Recording recording = record ? Events.startRecording(new File(RECORDING)) : null;
+		Result<CompiledAction> result;
+		try {
+			result = search.get(status);
+		}
+		finally {
+			if(recording != null) {
+				recording.stop();
+				recording.close();
+			}
+		}
+		System.out.println("\n" + result.message);
+		if(result.getSuccess())
+			System.out.println(result.solution);
+		if(profile)
+			System.out.println("\nHeuristic profile: " + ProfilingHeuristic.takeProfile());
+		if(recording != null)
+			System.out.println("\nRecording saved to " + RECORDING + ".");
+		boolean reproduced = true;
+		reproduced = check(Report.RESULTS_SUCCESS, recorded.get(Report.RESULTS_SUCCESS), result.getSuccess()) && reproduced;
+		reproduced = check(Report.RESULTS_VISITED, recorded.get(Report.RESULTS_VISITED), result.visited) && reproduced;
+		reproduced = check(Report.RESULTS_GENERATED, recorded.get(Report.RESULTS_GENERATED), result.generated) && reproduced;
+		System.out.println("\nRecorded time was " + recorded.get(Report.RESULTS_TIME) + " ms; replay took " + result.time + " ms.");
+		if(reproduced)
+			System.out.println("The test reproduced.");
+		else
+			System.out.println("The test did not reproduce.");
+		return reproduced;
+	}
+	
+	private static final Number get(Map<String, Object> row, String column, Number current) {
+		if(row == null || row.get(column) == null)
+			return current;
+		else
+			return (Number) row.get(column);
+	}
+	
+	private static final void warn(String setting, Object recorded, Object current) {
+		if(recorded == null)
+			return;
+		else if(recorded instanceof Number && current instanceof Number && ((Number) recorded).doubleValue() == ((Number) current).doubleValue())
+			return;
+		else if(!recorded.toString().equals(current.toString()))
+			System.out.println("Warning: The " + setting + " was \"" + recorded + "\" when the test ran but is now \"" + current + "\".");
+	}
+	
+	private static final boolean check(String column, Object recorded, Object replayed) {
+		boolean match = recorded != null && recorded.toString().equals(replayed.toString());
+		System.out.println(column + " recorded: " + recorded + ", replayed: " + replayed + (match ? "" : " (differs)"));
+		return match;
+	}
+	
+	/**
+	 * A private constructor means this class cannot be instantiated.
+	 */
+	private Replay() {}
+}
\ No newline at end of file
@@ -2,14 +2,25 @@ package edu.uky.cs.nil.sabre.bench;
 
 import java.io.IOException;
 import java.io.StringWriter;
-import java.util.function.Predicate;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import edu.uky.cs.nil.sabre.Problem;
+import edu.uky.cs.nil.sabre.Settings;
 import edu.uky.cs.nil.sabre.comp.CompiledAction;
 import edu.uky.cs.nil.sabre.comp.CompiledProblem;
 import edu.uky.cs.nil.sabre.comp.Grounder;
 import edu.uky.cs.nil.sabre.comp.Simplifier;
 import edu.uky.cs.nil.sabre.prog.ProgressionPlanner;
+import edu.uky.cs.nil.sabre.search.Planner;
 import edu.uky.cs.nil.sabre.search.Result;
 import edu.uky.cs.nil.sabre.util.ImmutableArray;
 import edu.uky.cs.nil.sabre.util.Worker.Status;
@@ -108,6 +119,13 @@ public class Report {
 	 */
 	public static final String PROBLEMS_EL = "Epistemic Limit";
 	
+	/**
+	 * Column label in the {@link #problems problems table} for the {@link
+	 * Benchmark#getParseTime() time spent parsing} the problem (in
+	 * nanoseconds)
+	 */
+	public static final String PROBLEMS_PARSE_TIME = "Parse Time (ns)";
+	
 	/**
 	 * Column label in the {@link #problems problems table} for the total number
 	 * of times the problem was solved by all planners
@@ -195,6 +213,122 @@ public class Report {
 	 */
 	public static final String PROBLEMS_STD_TIME = "Time Std. (ms)";
 	
+	/**
+	 * Column label in the {@link #problems problems table} for the median
+	 * number of nodes visited by any planner when working on the problem
+	 */
+	public static final String PROBLEMS_MED_VISITED = "Median Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the 90th
+	 * percentile number of nodes visited by any planner when working on the
+	 * problem
+	 */
+	public static final String PROBLEMS_P90_VISITED = "90th Pct. Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the 99th
+	 * percentile number of nodes visited by any planner when working on the
+	 * problem
+	 */
+	public static final String PROBLEMS_P99_VISITED = "99th Pct. Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the median
+	 * number of nodes generated by any planner when working on the problem
+	 */
+	public static final String PROBLEMS_MED_GENERATED = "Median Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the 90th
+	 * percentile number of nodes generated by any planner when working on the
+	 * problem
+	 */
+	public static final String PROBLEMS_P90_GENERATED = "90th Pct. Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the 99th
+	 * percentile number of nodes generated by any planner when working on the
+	 * problem
+	 */
+	public static final String PROBLEMS_P99_GENERATED = "99th Pct. Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the median
+	 * amount of time spent by any planner when working on the problem
+	 */
+	public static final String PROBLEMS_MED_TIME = "Median Time (ms)";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the 90th
+	 * percentile amount of time spent by any planner when working on the
+	 * problem
+	 */
+	public static final String PROBLEMS_P90_TIME = "90th Pct. Time (ms)";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the 99th
+	 * percentile amount of time spent by any planner when working on the
+	 * problem
+	 */
+	public static final String PROBLEMS_P99_TIME = "99th Pct. Time (ms)";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the minimum
+	 * {@link TestSuite.Test#getAllocatedBytes() number of bytes allocated} by
+	 * any planner on any run of a problem
+	 */
+	public static final String PROBLEMS_MIN_ALLOCATED = "Min Allocated Bytes";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the maximum
+	 * {@link TestSuite.Test#getAllocatedBytes() number of bytes allocated} by
+	 * any planner on any run of a problem
+	 */
+	public static final String PROBLEMS_MAX_ALLOCATED = "Max Allocated Bytes";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the average
+	 * {@link TestSuite.Test#getAllocatedBytes() number of bytes allocated}
+	 * across all planners and runs of a problem
+	 */
+	public static final String PROBLEMS_AVG_ALLOCATED = "Avg. Allocated Bytes";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the total time
+	 * spent {@link Phase#COMPILE compiling} the problem across all planners and
+	 * runs (in nanoseconds)
+	 */
+	public static final String PROBLEMS_COMPILE_TIME = "Total Compile Time (ns)";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the total time
+	 * spent {@link Phase#SHUFFLE shuffling} the problem across all planners and
+	 * runs (in nanoseconds)
+	 */
+	public static final String PROBLEMS_SHUFFLE_TIME = "Total Shuffle Time (ns)";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the total time
+	 * spent {@link Phase#SETUP setting up searches} for the problem across all
+	 * planners and runs (in nanoseconds)
+	 */
+	public static final String PROBLEMS_SETUP_TIME = "Total Setup Time (ns)";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the total time
+	 * spent {@link Phase#SEARCH searching} for solutions to the problem across
+	 * all planners and runs (in nanoseconds)
+	 */
+	public static final String PROBLEMS_SEARCH_TIME = "Total Search Time (ns)";
+	
+	/**
+	 * Column label in the {@link #problems problems table} for the fraction
+	 * of the total time spent on the problem's tests that was spent compiling,
+	 * shuffling, and setting up searches rather than searching
+	 */
+	public static final String PROBLEMS_PREPROCESSING_SHARE = "Preprocessing Share";
+	
 	/**
 	 * Column label in the {@link #planners planners table} for the {@link
 	 * edu.uky.cs.nil.sabre.search.Planner#name name of the planner}
@@ -219,6 +353,27 @@ public class Report {
 	 */
 	public static final String PLANNERS_HEURISTIC = "Heuristic";
 	
+	/**
+	 * Column label in the {@link #planners planners table} for the {@link
+	 * Planner#getSearchLimit() maximum number of nodes the planner may visit},
+	 * or -1 for no limit
+	 */
+	public static final String PLANNERS_SEARCH_LIMIT = "Search Limit";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the {@link
+	 * Planner#getSpaceLimit() maximum number of nodes the planner may
+	 * generate}, or -1 for no limit
+	 */
+	public static final String PLANNERS_SPACE_LIMIT = "Space Limit";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the {@link
+	 * Planner#getTimeLimit() maximum number of milliseconds a search may
+	 * take}, or -1 for no limit
+	 */
+	public static final String PLANNERS_TIME_LIMIT = "Time Limit (ms)";
+	
 	/**
 	 * Column label in the {@link #planners planners table} for the total number
 	 * of problems this planner solved across all tests
@@ -238,201 +393,907 @@ public class Report {
 	public static final String PLANNERS_VISITED = "Total Nodes Visited";
 	
 	/**
-	 * Column label in the {@link #planners planners table} for the total number
-	 * of nodes this planner generated across all tests
+	 * Column label in the {@link #planners planners table} for the total number
+	 * of nodes this planner generated across all tests
+	 */
+	public static final String PLANNERS_GENERATED = "Total Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the total number
+	 * of milliseconds this planner spent on all tests
+	 */
+	public static final String PLANNERS_TIME = "Total Time (ms)";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the median
+	 * number of nodes visited by this planner across all tests
+	 */
+	public static final String PLANNERS_MED_VISITED = "Median Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the 90th
+	 * percentile number of nodes visited by this planner across all tests
+	 */
+	public static final String PLANNERS_P90_VISITED = "90th Pct. Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the 99th
+	 * percentile number of nodes visited by this planner across all tests
+	 */
+	public static final String PLANNERS_P99_VISITED = "99th Pct. Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the median
+	 * number of nodes generated by this planner across all tests
+	 */
+	public static final String PLANNERS_MED_GENERATED = "Median Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the 90th
+	 * percentile number of nodes generated by this planner across all tests
+	 */
+	public static final String PLANNERS_P90_GENERATED = "90th Pct. Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the 99th
+	 * percentile number of nodes generated by this planner across all tests
+	 */
+	public static final String PLANNERS_P99_GENERATED = "99th Pct. Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the median
+	 * amount of time spent by this planner across all tests
+	 */
+	public static final String PLANNERS_MED_TIME = "Median Time (ms)";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the 90th
+	 * percentile amount of time spent by this planner across all tests
+	 */
+	public static final String PLANNERS_P90_TIME = "90th Pct. Time (ms)";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the 99th
+	 * percentile amount of time spent by this planner across all tests
+	 */
+	public static final String PLANNERS_P99_TIME = "99th Pct. Time (ms)";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the fraction
+	 * of all runs of a planner on all problems that were solved
+	 */
+	public static final String PLANNERS_COVERAGE = "Coverage";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for a planner's
+	 * IPC-style time score, which is the sum over all problems of the
+	 * planner's average score on that problem. A failed run scores 0, and a
+	 * successful run that took time T scores 1 / (1 + log10(T / T*)), where
+	 * T* is the least time any planner took to solve that problem.
+	 */
+	public static final String PLANNERS_TIME_SCORE = "Time Score";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for a planner's
+	 * node score, which is calculated like the {@link #PLANNERS_TIME_SCORE
+	 * time score} but uses the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} instead of time
+	 */
+	public static final String PLANNERS_NODE_SCORE = "Node Score";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for a planner's
+	 * penalized average runtime, which is the average {@link Result#time time
+	 * taken} on all runs when each failed run counts as {@link Main#PAR k}
+	 * times the planner's time limit (or the longest time taken by any test
+	 * if there is no time limit)
+	 */
+	public static final String PLANNERS_PAR = "PAR-" + Main.PAR + " (ms)";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the geometric
+	 * mean over all runs solved by both a planner and the {@link
+	 * Main#BASELINE baseline planner} of the baseline's {@link Result#time
+	 * time} divided by the planner's time
+	 */
+	public static final String PLANNERS_SPEEDUP = "Speedup vs. " + Main.BASELINE;
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the total
+	 * {@link TestSuite.Test#getAllocatedBytes() number of bytes allocated} by
+	 * a planner on all runs of all problems divided by the total {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited}
+	 */
+	public static final String PLANNERS_BYTES_PER_NODE = "Allocated Bytes per Node Visited";
+	
+	/**
+	 * Column label in the {@link #planners planners table} for the total time
+	 * a planner's {@link ProfilingHeuristic profiled heuristic} spent
+	 * evaluating nodes on all runs of all problems divided by the total time
+	 * spent {@link Phase#SEARCH searching}
+	 */
+	public static final String PLANNERS_HEURISTIC_SHARE = "Heuristic Share";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * Benchmark#name name of a benchmark problem}
+	 */
+	public static final String RESULTS_PROBLEM = "Problem";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * ProgressionPlanner#name name of a planner}
+	 */
+	public static final String RESULTS_PLANNER = "Planner";
+	
+	/**
+	 * Column label in the {@link #results results table} for the index in the
+	 * number of runs (min 1, max {@link Main#RUNS}).
+	 */
+	public static final String RESULTS_RUN = "Run";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * Benchmark#getShuffleSeed(int) seed used to shuffle the problem's
+	 * actions}, or null if they were not shuffled
+	 */
+	public static final String RESULTS_SEED = "Shuffle Seed";
+	
+	/**
+	 * Column label in the {@link #results results table} indicating whether or
+	 * not the planner found a solution that met or exceeded the required goal
+	 * utility
+	 */
+	public static final String RESULTS_SUCCESS = "Success?";
+	
+	/**
+	 * Column label in the {@link #results results table} for the number of
+	 * actions in the author's plan to solve the problem, if a suitable solution
+	 * was found
+	 */
+	public static final String RESULTS_PLAN_LENGTH = "Plan Length";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited by the search}
+	 */
+	public static final String RESULTS_VISITED = "Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated by the search}
+	 */
+	public static final String RESULTS_GENERATED = "Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * Result#time amount of time take by the search} (in milliseconds)
+	 */
+	public static final String RESULTS_TIME = "Time (ms)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * TestSuite.Test#getCPUTime() CPU time used by the thread that ran the
+	 * search} (in nanoseconds)
+	 */
+	public static final String RESULTS_CPU_TIME = "CPU Time (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * TestSuite.Test#getUserTime() CPU time the thread that ran the search
+	 * spent in user mode} (in nanoseconds)
+	 */
+	public static final String RESULTS_USER_TIME = "User Time (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * TestSuite.Test#getAllocatedBytes() number of bytes allocated by the
+	 * thread that ran the search}
+	 */
+	public static final String RESULTS_ALLOCATED = "Allocated Bytes";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * TestSuite.Test#getGCPauseTime() time garbage collection paused the
+	 * search} (in milliseconds)
+	 */
+	public static final String RESULTS_GC_PAUSE = "GC Pause (ms)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the time spent
+	 * {@link Phase#COMPILE compiling} the problem (in nanoseconds)
+	 */
+	public static final String RESULTS_COMPILE_TIME = "Compile Time (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the time spent
+	 * {@link Phase#SHUFFLE shuffling} the compiled problem's actions (in
+	 * nanoseconds)
+	 */
+	public static final String RESULTS_SHUFFLE_TIME = "Shuffle Time (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the time spent
+	 * {@link Phase#SETUP setting up} the search (in nanoseconds)
+	 */
+	public static final String RESULTS_SETUP_TIME = "Setup Time (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the time spent
+	 * {@link Phase#SEARCH searching} (in nanoseconds)
+	 */
+	public static final String RESULTS_SEARCH_TIME = "Search Time (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * ProfilingHeuristic.Profile#getCalls() number of times the search's
+	 * heuristic was evaluated}, if it was {@link ProfilingHeuristic profiled}
+	 */
+	public static final String RESULTS_HEURISTIC_CALLS = "Heuristic Calls";
+	
+	/**
+	 * Column label in the {@link #results results table} for the total time
+	 * spent evaluating the search's heuristic, if it was {@link
+	 * ProfilingHeuristic profiled} (in nanoseconds)
+	 */
+	public static final String RESULTS_HEURISTIC_TIME = "Heuristic Time (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the time spent
+	 * evaluating the search's heuristic divided by the time spent {@link
+	 * Phase#SEARCH searching}, if it was {@link ProfilingHeuristic profiled}
+	 */
+	public static final String RESULTS_HEURISTIC_SHARE = "Heuristic Share";
+	
+	/**
+	 * Column label in the {@link #results results table} for the estimated
+	 * median time of one evaluation of the search's heuristic, if it was
+	 * {@link ProfilingHeuristic profiled} (in nanoseconds)
+	 */
+	public static final String RESULTS_MED_HEURISTIC_CALL = "Median Heuristic Call (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the estimated
+	 * 99th percentile time of one evaluation of the search's heuristic, if it
+	 * was {@link ProfilingHeuristic profiled} (in nanoseconds)
+	 */
+	public static final String RESULTS_P99_HEURISTIC_CALL = "99th Pct. Heuristic Call (ns)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the fraction of
+	 * evaluations of the search's heuristic that {@link
+	 * ProfilingHeuristic.Profile#getInfinite() returned infinity}, if it was
+	 * {@link ProfilingHeuristic profiled}
+	 */
+	public static final String RESULTS_INFINITE_HEURISTIC = "Infinite Heuristic Share";
+	
+	/**
+	 * Column label in the {@link #results results table} for the mean of the
+	 * finite values returned by the search's heuristic, if it was {@link
+	 * ProfilingHeuristic profiled}
+	 */
+	public static final String RESULTS_AVG_HEURISTIC = "Avg. Heuristic Value";
+	
+	/**
+	 * Column label in the {@link #results results table} for the median of the
+	 * finite values returned by the search's heuristic, if it was {@link
+	 * ProfilingHeuristic profiled}
+	 */
+	public static final String RESULTS_MED_HEURISTIC = "Median Heuristic Value";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * ProgressSampler.Series#getRate(double, double) rate of search} during
+	 * the first third of the search, if it was {@link ProgressSampler sampled}
+	 * (in nodes visited per second)
+	 */
+	public static final String RESULTS_START_RATE = "Start Rate (nodes/s)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * ProgressSampler.Series#getRate(double, double) rate of search} during
+	 * the middle third of the search, if it was {@link ProgressSampler
+	 * sampled} (in nodes visited per second)
+	 */
+	public static final String RESULTS_MIDDLE_RATE = "Middle Rate (nodes/s)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * ProgressSampler.Series#getRate(double, double) rate of search} during
+	 * the last third of the search, if it was {@link ProgressSampler sampled}
+	 * (in nodes visited per second)
+	 */
+	public static final String RESULTS_END_RATE = "End Rate (nodes/s)";
+	
+	/**
+	 * Column label in the {@link #results results table} for the {@link
+	 * ProgressSampler.Series#getMaxHeap() most heap in use} while the search
+	 * ran, if it was {@link ProgressSampler sampled} (in bytes)
+	 */
+	public static final String RESULTS_MAX_HEAP = "Max Heap Used (bytes)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the {@link
+	 * Benchmark#name name of a benchmark problem}
+	 */
+	public static final String SUMMARY_PROBLEM = "Problem";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the {@link
+	 * ProgressionPlanner#name name of a planner}
+	 */
+	public static final String SUMMARY_PLANNER = "Planner";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the number of
+	 * times one planner succeeded on one problem
+	 */
+	public static final String SUMMARY_SUCCESSES = "Successes";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the minimum {@link
+	 * edu.uky.cs.nil.sabre.Plan#size() number of actions} in a planner's {@link
+	 * Result#solution solution} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MIN_PLAN_LENGTH = "Min Plan Length";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the maximum {@link
+	 * edu.uky.cs.nil.sabre.Plan#size() number of actions} in a planner's {@link
+	 * Result#solution solution} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MAX_PLAN_LENGTH = "Max Plan Length";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the average {@link
+	 * edu.uky.cs.nil.sabre.Plan#size() number of actions} in a planner's {@link
+	 * Result#solution solution} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_AVG_PLAN_LENGTH = "Avg. Plan Length";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the standard
+	 * deviation in {@link edu.uky.cs.nil.sabre.Plan#size() the number of
+	 * actions} in a planner's {@link Result#solution solution} across all
+	 * runs of one planner on one problem
+	 */
+	public static final String SUMMARY_STD_PLAN_LENGTH = "Plan Length Std.";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the minimum {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MIN_VISITED = "Min Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the maximum {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MAX_VISITED = "Max Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the average {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_AVG_VISITED = "Avg. Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the standard
+	 * deviation in the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_STD_VISITED = "Nodes Visited Std.";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the minimum {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MIN_GENERATED = "Min Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the maximum {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MAX_GENERATED = "Max Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the average {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_AVG_GENERATED = "Avg. Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the standard
+	 * deviation in the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_STD_GENERATED = "Nodes Generated Std.";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the minimum {@link
+	 * Result#time amount of time taken} across all runs of one planner on one
+	 * problem
+	 */
+	public static final String SUMMARY_MIN_TIME = "Min Time (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the maximum {@link
+	 * Result#time amount of time taken} across all runs of one planner on one
+	 * problem
+	 */
+	public static final String SUMMARY_MAX_TIME = "Max Time (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the average {@link
+	 * Result#time amount of time taken} across all runs of one planner on one
+	 * problem
+	 */
+	public static final String SUMMARY_AVG_TIME = "Avg. Time (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the standard
+	 * deviation in the {@link Result#time amount of time taken} across all runs
+	 * of one planner on one problem
+	 */
+	public static final String SUMMARY_STD_TIME = "Time Std. (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the median {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MED_VISITED = "Median Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the 90th
+	 * percentile {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_P90_VISITED = "90th Pct. Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the 99th
+	 * percentile {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_P99_VISITED = "99th Pct. Nodes Visited";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the median {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MED_GENERATED = "Median Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the 90th
+	 * percentile {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_P90_GENERATED = "90th Pct. Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the 99th
+	 * percentile {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
+	 * nodes generated} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_P99_GENERATED = "99th Pct. Nodes Generated";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the median {@link
+	 * Result#time amount of time taken} across all runs of one planner on one
+	 * problem
+	 */
+	public static final String SUMMARY_MED_TIME = "Median Time (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the 90th
+	 * percentile {@link Result#time amount of time taken} across all runs of
+	 * one planner on one problem
+	 */
+	public static final String SUMMARY_P90_TIME = "90th Pct. Time (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the 99th
+	 * percentile {@link Result#time amount of time taken} across all runs of
+	 * one planner on one problem
+	 */
+	public static final String SUMMARY_P99_TIME = "99th Pct. Time (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the lower bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the average
+	 * {@link edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of
+	 * nodes visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_AVG_VISITED_LOW = "Avg. Nodes Visited CI Low";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the upper bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the average
+	 * {@link edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of
+	 * nodes visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_AVG_VISITED_HIGH = "Avg. Nodes Visited CI High";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the lower bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the median {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MED_VISITED_LOW = "Median Nodes Visited CI Low";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the upper bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the median {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MED_VISITED_HIGH = "Median Nodes Visited CI High";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the lower bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the average
+	 * {@link Result#time amount of time taken} across all runs of one planner
+	 * on one problem
+	 */
+	public static final String SUMMARY_AVG_TIME_LOW = "Avg. Time CI Low (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the upper bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the average
+	 * {@link Result#time amount of time taken} across all runs of one planner
+	 * on one problem
+	 */
+	public static final String SUMMARY_AVG_TIME_HIGH = "Avg. Time CI High (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the lower bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the median {@link
+	 * Result#time amount of time taken} across all runs of one planner on one
+	 * problem
+	 */
+	public static final String SUMMARY_MED_TIME_LOW = "Median Time CI Low (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the upper bound of
+	 * the {@link Bootstrap bootstrap confidence interval} for the median {@link
+	 * Result#time amount of time taken} across all runs of one planner on one
+	 * problem
+	 */
+	public static final String SUMMARY_MED_TIME_HIGH = "Median Time CI High (ms)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the average
+	 * {@link TestSuite.Test#getCPUTime() CPU time used} across all runs of one
+	 * planner on one problem
+	 */
+	public static final String SUMMARY_AVG_CPU_TIME = "Avg. CPU Time (ns)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the standard
+	 * deviation in the {@link TestSuite.Test#getCPUTime() CPU time used}
+	 * across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_STD_CPU_TIME = "CPU Time Std. (ns)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the average
+	 * {@link TestSuite.Test#getUserTime() CPU time spent in user mode} across
+	 * all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_AVG_USER_TIME = "Avg. User Time (ns)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the standard
+	 * deviation in the {@link TestSuite.Test#getUserTime() CPU time spent in
+	 * user mode} across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_STD_USER_TIME = "User Time Std. (ns)";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the minimum
+	 * {@link TestSuite.Test#getAllocatedBytes() number of bytes allocated}
+	 * across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MIN_ALLOCATED = "Min Allocated Bytes";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the maximum
+	 * {@link TestSuite.Test#getAllocatedBytes() number of bytes allocated}
+	 * across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_MAX_ALLOCATED = "Max Allocated Bytes";
+	
+	/**
+	 * Column label in the {@link #summary summary table} for the average
+	 * {@link TestSuite.Test#getAllocatedBytes() number of bytes allocated}
+	 * across all runs of one planner on one problem
+	 */
+	public static final String SUMMARY_AVG_ALLOCATED = "Avg. Allocated Bytes";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the name
+	 * of the planner being compared
+	 */
+	public static final String COMPARISONS_PLANNER = "Planner";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the name
+	 * of the planner it is being compared to
+	 */
+	public static final String COMPARISONS_OPPONENT = "Opponent";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * number of runs of the same problems that both planners completed, which
+	 * are the pairs being compared
+	 */
+	public static final String COMPARISONS_PAIRS = "Pairs";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * number of pairs where the planner {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() visited} fewer
+	 * nodes than the opponent
+	 */
+	public static final String COMPARISONS_VISITED_WINS = "Nodes Visited Wins";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * number of pairs where the planner {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() visited} more
+	 * nodes than the opponent
+	 */
+	public static final String COMPARISONS_VISITED_LOSSES = "Nodes Visited Losses";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * p-value of the {@link PairedTest#wilcoxon Wilcoxon signed-rank test} on
+	 * the {@link edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited()
+	 * number of nodes visited}
+	 */
+	public static final String COMPARISONS_VISITED_WILCOXON = "Nodes Visited Wilcoxon p";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * p-value of the {@link PairedTest#sign sign test} on the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited}
+	 */
+	public static final String COMPARISONS_VISITED_SIGN = "Nodes Visited Sign p";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * {@link PairedTest#effect effect size} of the difference in the {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
+	 * visited}, which is positive when the planner tends to visit fewer
+	 */
+	public static final String COMPARISONS_VISITED_EFFECT = "Nodes Visited Effect Size";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * number of pairs where the planner {@link Result#time took less time}
+	 * than the opponent
+	 */
+	public static final String COMPARISONS_TIME_WINS = "Time Wins";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * number of pairs where the planner {@link Result#time took more time}
+	 * than the opponent
+	 */
+	public static final String COMPARISONS_TIME_LOSSES = "Time Losses";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * p-value of the {@link PairedTest#wilcoxon Wilcoxon signed-rank test} on
+	 * the {@link Result#time amount of time taken}
+	 */
+	public static final String COMPARISONS_TIME_WILCOXON = "Time Wilcoxon p";
+	
+	/**
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * p-value of the {@link PairedTest#sign sign test} on the {@link
+	 * Result#time amount of time taken}
 	 */
-	public static final String PLANNERS_GENERATED = "Total Nodes Generated";
+	public static final String COMPARISONS_TIME_SIGN = "Time Sign p";
 	
 	/**
-	 * Column label in the {@link #planners planners table} for the total number
-	 * of milliseconds this planner spent on all tests
+	 * Column label in the {@link #comparisons comparisons table} for the
+	 * {@link PairedTest#effect effect size} of the difference in the {@link
+	 * Result#time amount of time taken}, which is positive when the planner
+	 * tends to take less time
 	 */
-	public static final String PLANNERS_TIME = "Total Time (ms)";
+	public static final String COMPARISONS_TIME_EFFECT = "Time Effect Size";
 	
 	/**
-	 * Column label in the {@link #results results table} for the {@link
-	 * Benchmark#name name of a benchmark problem}
+	 * Column label in the {@link #cactus cactus table} for the name of the
+	 * planner
 	 */
-	public static final String RESULTS_PROBLEM = "Problem";
+	public static final String CACTUS_PLANNER = "Planner";
 	
 	/**
-	 * Column label in the {@link #results results table} for the {@link
-	 * ProgressionPlanner#name name of a planner}
+	 * Column label in the {@link #cactus cactus table} for a number of runs
+	 * the planner solved
 	 */
-	public static final String RESULTS_PLANNER = "Planner";
+	public static final String CACTUS_SOLVED = "Runs Solved";
 	
 	/**
-	 * Column label in the {@link #results results table} for the index in the
-	 * number of runs (min 1, max {@link Main#RUNS}).
+	 * Column label in the {@link #cactus cactus table} for the fewest {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() nodes visited}
+	 * within which the planner solved that many runs
 	 */
-	public static final String RESULTS_RUN = "Run";
+	public static final String CACTUS_VISITED = "Nodes Visited";
 	
 	/**
-	 * Column label in the {@link #results results table} indicating whether or
-	 * not the planner found a solution that met or exceeded the required goal
-	 * utility
+	 * Column label in the {@link #cactus cactus table} for the fewest {@link
+	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() nodes
+	 * generated} within which the planner solved that many runs
 	 */
-	public static final String RESULTS_SUCCESS = "Success?";
+	public static final String CACTUS_GENERATED = "Nodes Generated";
 	
 	/**
-	 * Column label in the {@link #results results table} for the number of
-	 * actions in the author's plan to solve the problem, if a suitable solution
-	 * was found
+	 * Column label in the {@link #cactus cactus table} for the least {@link
+	 * Result#time time} within which the planner solved that many runs
 	 */
-	public static final String RESULTS_PLAN_LENGTH = "Plan Length";
+	public static final String CACTUS_TIME = "Time (ms)";
 	
 	/**
-	 * Column label in the {@link #results results table} for the {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
-	 * visited by the search}
+	 * Column label in the {@link #scaling scaling table} for the name of the
+	 * generated problem
 	 */
-	public static final String RESULTS_VISITED = "Nodes Visited";
+	public static final String SCALING_PROBLEM = "Problem";
 	
 	/**
-	 * Column label in the {@link #results results table} for the {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
-	 * nodes generated by the search}
+	 * Column label in the {@link #scaling scaling table} for the name of the
+	 * planner
 	 */
-	public static final String RESULTS_GENERATED = "Nodes Generated";
+	public static final String SCALING_PLANNER = "Planner";
 	
 	/**
-	 * Column label in the {@link #results results table} for the {@link
-	 * Result#time amount of time take by the search} (in milliseconds)
+	 * Column label in the {@link #scaling scaling table} for the {@link
+	 * GeneratedBenchmark#characters number of characters} the problem was
+	 * generated with
 	 */
-	public static final String RESULTS_TIME = "Time (ms)";
+	public static final String SCALING_CHARACTERS = "Characters";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the {@link
-	 * Benchmark#name name of a benchmark problem}
+	 * Column label in the {@link #scaling scaling table} for the {@link
+	 * GeneratedBenchmark#items number of items} the problem was generated with
 	 */
-	public static final String SUMMARY_PROBLEM = "Problem";
+	public static final String SCALING_ITEMS = "Items";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the {@link
-	 * ProgressionPlanner#name name of a planner}
+	 * Column label in the {@link #scaling scaling table} for the {@link
+	 * GeneratedBenchmark#actions number of action templates} the problem was
+	 * generated with
 	 */
-	public static final String SUMMARY_PLANNER = "Planner";
+	public static final String SCALING_ACTIONS = "Action Templates";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the number of
-	 * times one planner succeeded on one problem
+	 * Column label in the {@link #scaling scaling table} for the {@link
+	 * GeneratedBenchmark#nesting depth of nested beliefs} the problem was
+	 * generated with
 	 */
-	public static final String SUMMARY_SUCCESSES = "Successes";
+	public static final String SCALING_NESTING = "Belief Nesting";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the minimum {@link
-	 * edu.uky.cs.nil.sabre.Plan#size() number of actions} in a planner's {@link
-	 * Result#solution solution} across all runs of one planner on one problem
+	 * Column label in the {@link #scaling scaling table} for the number of
+	 * fluents in the problem after it was compiled and simplified
 	 */
-	public static final String SUMMARY_MIN_PLAN_LENGTH = "Min Plan Length";
+	public static final String SCALING_GROUND_FLUENTS = PROBLEMS_GROUND_FLUENTS;
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the maximum {@link
-	 * edu.uky.cs.nil.sabre.Plan#size() number of actions} in a planner's {@link
-	 * Result#solution solution} across all runs of one planner on one problem
+	 * Column label in the {@link #scaling scaling table} for the number of
+	 * actions in the problem after it was compiled and simplified
 	 */
-	public static final String SUMMARY_MAX_PLAN_LENGTH = "Max Plan Length";
+	public static final String SCALING_GROUND_ACTIONS = PROBLEMS_GROUND_ACTIONS;
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the average {@link
-	 * edu.uky.cs.nil.sabre.Plan#size() number of actions} in a planner's {@link
-	 * Result#solution solution} across all runs of one planner on one problem
+	 * Column label in the {@link #scaling scaling table} for the number of
+	 * times the planner solved the problem
 	 */
-	public static final String SUMMARY_AVG_PLAN_LENGTH = "Avg. Plan Length";
+	public static final String SCALING_SUCCESSES = SUMMARY_SUCCESSES;
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the standard
-	 * deviation in {@link edu.uky.cs.nil.sabre.Plan#size() the number of
-	 * actions} in a planner's {@link Result#solution solution} across all
-	 * runs of one planner on one problem
+	 * Column label in the {@link #scaling scaling table} for the average
+	 * {@link edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() nodes
+	 * visited} by the planner's successful runs on the problem
 	 */
-	public static final String SUMMARY_STD_PLAN_LENGTH = "Plan Length Std.";
+	public static final String SCALING_AVG_VISITED = SUMMARY_AVG_VISITED;
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the minimum {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
-	 * visited} across all runs of one planner on one problem
+	 * Column label in the {@link #scaling scaling table} for the average
+	 * {@link edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() nodes
+	 * generated} by the planner's successful runs on the problem
 	 */
-	public static final String SUMMARY_MIN_VISITED = "Min Nodes Visited";
+	public static final String SCALING_AVG_GENERATED = SUMMARY_AVG_GENERATED;
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the maximum {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
-	 * visited} across all runs of one planner on one problem
+	 * Column label in the {@link #scaling scaling table} for the average
+	 * {@link Result#time time} taken by the planner's successful runs on the
+	 * problem
 	 */
-	public static final String SUMMARY_MAX_VISITED = "Max Nodes Visited";
+	public static final String SCALING_AVG_TIME = SUMMARY_AVG_TIME;
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the average {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
-	 * visited} across all runs of one planner on one problem
+	 * Column label in the {@link #collectors collectors table} for the name of
+	 * the garbage collector
 	 */
-	public static final String SUMMARY_AVG_VISITED = "Avg. Nodes Visited";
+	public static final String COLLECTORS_NAME = "Collector";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the standard
-	 * deviation in the {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getVisited() number of nodes
-	 * visited} across all runs of one planner on one problem
+	 * Column label in the {@link #collectors collectors table} for whether the
+	 * collector {@link GCMonitor.Collection#pause stops all threads} while it
+	 * runs
 	 */
-	public static final String SUMMARY_STD_VISITED = "Nodes Visited Std.";
+	public static final String COLLECTORS_PAUSE = "Stops Threads?";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the minimum {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
-	 * nodes generated} across all runs of one planner on one problem
+	 * Column label in the {@link #collectors collectors table} for the number
+	 * of times the collector ran
 	 */
-	public static final String SUMMARY_MIN_GENERATED = "Min Nodes Generated";
+	public static final String COLLECTORS_COUNT = "Collections";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the maximum {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
-	 * nodes generated} across all runs of one planner on one problem
+	 * Column label in the {@link #collectors collectors table} for the total
+	 * {@link GCMonitor.Collection#getDuration() time} the collector ran
 	 */
-	public static final String SUMMARY_MAX_GENERATED = "Max Nodes Generated";
+	public static final String COLLECTORS_TOTAL_TIME = "Total Time (ms)";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the average {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
-	 * nodes generated} across all runs of one planner on one problem
+	 * Column label in the {@link #collectors collectors table} for the longest
+	 * {@link GCMonitor.Collection#getDuration() time} the collector ran
 	 */
-	public static final String SUMMARY_AVG_GENERATED = "Avg. Nodes Generated";
+	public static final String COLLECTORS_MAX_TIME = "Max Time (ms)";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the standard
-	 * deviation in the {@link
-	 * edu.uky.cs.nil.sabre.prog.ProgressionSearch#getGenerated() number of
-	 * nodes generated} across all runs of one planner on one problem
+	 * Column label in the {@link #collectors collectors table} for the average
+	 * {@link GCMonitor.Collection#getDuration() time} the collector ran
 	 */
-	public static final String SUMMARY_STD_GENERATED = "Nodes Generated Std.";
+	public static final String COLLECTORS_AVG_TIME = "Avg. Time (ms)";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the minimum {@link
-	 * Result#time amount of time taken} across all runs of one planner on one
-	 * problem
+	 * Column label in the {@link #collectors collectors table} for the fraction
+	 * of the time tests were running that the collector was running
 	 */
-	public static final String SUMMARY_MIN_TIME = "Min Time (ms)";
+	public static final String COLLECTORS_SHARE = "Share of Duration";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the maximum {@link
-	 * Result#time amount of time taken} across all runs of one planner on one
-	 * problem
+	 * Column label in the {@link #configuration configuration table} for the
+	 * name of a setting
 	 */
-	public static final String SUMMARY_MAX_TIME = "Max Time (ms)";
+	public static final String CONFIGURATION_SETTING = "Setting";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the average {@link
-	 * Result#time amount of time taken} across all runs of one planner on one
-	 * problem
+	 * Column label in the {@link #configuration configuration table} for the
+	 * value of a setting
 	 */
-	public static final String SUMMARY_AVG_TIME = "Avg. Time (ms)";
+	public static final String CONFIGURATION_VALUE = "Value";
 	
 	/**
-	 * Column label in the {@link #summary summary table} for the standard
-	 * deviation in the {@link Result#time amount of time taken} across all runs
-	 * of one planner on one problem
+	 * Calculates the {@link Bootstrap bootstrap confidence intervals} in the
+	 * {@link #summary summary table}
 	 */
-	public static final String SUMMARY_STD_TIME = "Time Std. (ms)";
+	static final Bootstrap BOOTSTRAP = new Bootstrap(Main.RESAMPLES, Main.CONFIDENCE, Main.SEED);
 	
 	/**
 	 * Gives summary statistics about the size, goal, and search limits on each
@@ -456,6 +1317,47 @@ public class Report {
 	 */
 	public final Table summary = new Table();
 	
+	/**
+	 * Contains {@link PairedTest paired significance tests} comparing each
+	 * {@link ProgressionPlanner planner} to each other planner on the same
+	 * runs of the same {@link Benchmark benchmark problems} (this table
+	 * remains empty until {@link #setEnd() all tests are complete})
+	 */
+	public final Table comparisons = new Table();
+	
+	/**
+	 * Contains the data for cactus plots, which show how many runs each
+	 * {@link ProgressionPlanner planner} solved within a given number of nodes
+	 * or amount of time; the row for k runs solved gives the k-th smallest
+	 * value of each measure among the planner's successful runs (this table
+	 * remains empty until {@link #setEnd() all tests are complete})
+	 */
+	public final Table cactus = new Table();
+	
+	/**
+	 * Contains the size of each {@link GeneratedBenchmark generated problem}
+	 * and how each {@link ProgressionPlanner planner} performed on it, so that
+	 * scaling curves can show how planners' costs grow with the size of a
+	 * problem; this table is empty if no generated problems were tested (and
+	 * remains empty until {@link #setEnd() all tests are complete})
+	 */
+	public final Table scaling = new Table();
+	
+	/**
+	 * Contains statistics about each garbage collector that ran while tests
+	 * were running, as {@link #addCollections(Iterable) recorded by the test
+	 * suite}
+	 */
+	public final Table collectors = new Table();
+	
+	/**
+	 * Records the versions of Sabre and Java, the arguments the JVM was
+	 * started with, and the {@link Main settings} the tests were run with, so
+	 * that together with the other tables any one test can be {@link Replay
+	 * replayed}
+	 */
+	public final Table configuration = new Table();
+	
 	/**
 	 * The {@link System#currentTimeMillis() time} the tests started, as set by
 	 * {@link #setStart()}
@@ -468,6 +1370,21 @@ public class Report {
 	 */
 	private long end = -1;
 	
+	/**
+	 * The number of {@link TestSuite#warmup(Status) warmup searches} run
+	 * before the tests, as set by {@link #setWarmup(int, long)}
+	 */
+	private int warmups = 0;
+	
+	/** The milliseconds spent on warmup searches */
+	private long warmupTime = 0;
+	
+	/**
+	 * The generated problems that have been {@link #addProblem(Benchmark,
+	 * Status) added}, which appear in the {@link #scaling scaling table}
+	 */
+	private final LinkedHashMap<Problem, GeneratedBenchmark> generated = new LinkedHashMap<>();
+	
 	/**
 	 * Constructs a new, empty report.
 	 */
@@ -485,18 +1402,43 @@ public class Report {
 		problems.addColumn(PROBLEMS_ATL, Integer.class);
 		problems.addColumn(PROBLEMS_CTL, Integer.class);
 		problems.addColumn(PROBLEMS_EL, Integer.class);
+		problems.addColumn(PROBLEMS_PARSE_TIME, Long.class);
 		planners.addColumn(PLANNERS_NAME, String.class);
 		planners.addColumn(PLANNERS_SEARCH, String.class);
 		planners.addColumn(PLANNERS_COST, String.class);
 		planners.addColumn(PLANNERS_HEURISTIC, String.class);
+		planners.addColumn(PLANNERS_SEARCH_LIMIT, Long.class);
+		planners.addColumn(PLANNERS_SPACE_LIMIT, Long.class);
+		planners.addColumn(PLANNERS_TIME_LIMIT, Long.class);
 		results.addColumn(RESULTS_PROBLEM, String.class);
 		results.addColumn(RESULTS_PLANNER, String.class);
 		results.addColumn(RESULTS_RUN, Integer.class);
+		results.addColumn(RESULTS_SEED, Long.class);
 		results.addColumn(RESULTS_SUCCESS, Boolean.class);
 		results.addColumn(RESULTS_PLAN_LENGTH, Integer.class);
 		results.addColumn(RESULTS_VISITED, Long.class);
 		results.addColumn(RESULTS_GENERATED, Long.class);
 		results.addColumn(RESULTS_TIME, Long.class);
+		results.addColumn(RESULTS_CPU_TIME, Long.class);
+		results.addColumn(RESULTS_USER_TIME, Long.class);
+		results.addColumn(RESULTS_ALLOCATED, Long.class);
+		results.addColumn(RESULTS_GC_PAUSE, Long.class);
+		results.addColumn(RESULTS_COMPILE_TIME, Long.class);
+		results.addColumn(RESULTS_SHUFFLE_TIME, Long.class);
+		results.addColumn(RESULTS_SETUP_TIME, Long.class);
+		results.addColumn(RESULTS_SEARCH_TIME, Long.class);
+		results.addColumn(RESULTS_HEURISTIC_CALLS, Long.class);
+		results.addColumn(RESULTS_HEURISTIC_TIME, Long.class);
+		results.addColumn(RESULTS_HEURISTIC_SHARE, Double.class);
+		results.addColumn(RESULTS_MED_HEURISTIC_CALL, Double.class);
+		results.addColumn(RESULTS_P99_HEURISTIC_CALL, Double.class);
+		results.addColumn(RESULTS_INFINITE_HEURISTIC, Double.class);
+		results.addColumn(RESULTS_AVG_HEURISTIC, Double.class);
+		results.addColumn(RESULTS_MED_HEURISTIC, Double.class);
+		results.addColumn(RESULTS_START_RATE, Double.class);
+		results.addColumn(RESULTS_MIDDLE_RATE, Double.class);
+		results.addColumn(RESULTS_END_RATE, Double.class);
+		results.addColumn(RESULTS_MAX_HEAP, Long.class);
 		summary.addColumn(SUMMARY_PROBLEM, String.class);
 		summary.addColumn(SUMMARY_PLANNER, String.class);
 		summary.addColumn(SUMMARY_SUCCESSES, Long.class);
@@ -508,14 +1450,103 @@ public class Report {
 		summary.addColumn(SUMMARY_MAX_VISITED, Long.class);
 		summary.addColumn(SUMMARY_AVG_VISITED, Double.class);
 		summary.addColumn(SUMMARY_STD_VISITED, Double.class);
+		summary.addColumn(SUMMARY_MED_VISITED, Double.class);
+		summary.addColumn(SUMMARY_P90_VISITED, Double.class);
+		summary.addColumn(SUMMARY_P99_VISITED, Double.class);
+		summary.addColumn(SUMMARY_AVG_VISITED_LOW, Double.class);
+		summary.addColumn(SUMMARY_AVG_VISITED_HIGH, Double.class);
+		summary.addColumn(SUMMARY_MED_VISITED_LOW, Double.class);
+		summary.addColumn(SUMMARY_MED_VISITED_HIGH, Double.class);
 		summary.addColumn(SUMMARY_MIN_GENERATED, Long.class);
 		summary.addColumn(SUMMARY_MAX_GENERATED, Long.class);
 		summary.addColumn(SUMMARY_AVG_GENERATED, Double.class);
 		summary.addColumn(SUMMARY_STD_GENERATED, Double.class);
+		summary.addColumn(SUMMARY_MED_GENERATED, Double.class);
+		summary.addColumn(SUMMARY_P90_GENERATED, Double.class);
+		summary.addColumn(SUMMARY_P99_GENERATED, Double.class);
 		summary.addColumn(SUMMARY_MIN_TIME, Long.class);
 		summary.addColumn(SUMMARY_MAX_TIME, Long.class);
 		summary.addColumn(SUMMARY_AVG_TIME, Double.class);
 		summary.addColumn(SUMMARY_STD_TIME, Double.class);
+		summary.addColumn(SUMMARY_MED_TIME, Double.class);
+		summary.addColumn(SUMMARY_P90_TIME, Double.class);
+		summary.addColumn(SUMMARY_P99_TIME, Double.class);
+		summary.addColumn(SUMMARY_AVG_TIME_LOW, Double.class);
+		summary.addColumn(SUMMARY_AVG_TIME_HIGH, Double.class);
+		summary.addColumn(SUMMARY_MED_TIME_LOW, Double.class);
+		summary.addColumn(SUMMARY_MED_TIME_HIGH, Double.class);
+		summary.addColumn(SUMMARY_AVG_CPU_TIME, Double.class);
+		summary.addColumn(SUMMARY_STD_CPU_TIME, Double.class);
+		summary.addColumn(SUMMARY_AVG_USER_TIME, Double.class);
+		summary.addColumn(SUMMARY_STD_USER_TIME, Double.class);
+		summary.addColumn(SUMMARY_MIN_ALLOCATED, Long.class);
+		summary.addColumn(SUMMARY_MAX_ALLOCATED, Long.class);
+		summary.addColumn(SUMMARY_AVG_ALLOCATED, Double.class);
+		comparisons.addColumn(COMPARISONS_PLANNER, String.class);
+		comparisons.addColumn(COMPARISONS_OPPONENT, String.class);
+		comparisons.addColumn(COMPARISONS_PAIRS, Integer.class);
+		comparisons.addColumn(COMPARISONS_VISITED_WINS, Integer.class);
+		comparisons.addColumn(COMPARISONS_VISITED_LOSSES, Integer.class);
+		comparisons.addColumn(COMPARISONS_VISITED_WILCOXON, Double.class);
+		comparisons.addColumn(COMPARISONS_VISITED_SIGN, Double.class);
+		comparisons.addColumn(COMPARISONS_VISITED_EFFECT, Double.class);
+		comparisons.addColumn(COMPARISONS_TIME_WINS, Integer.class);
+		comparisons.addColumn(COMPARISONS_TIME_LOSSES, Integer.class);
+		comparisons.addColumn(COMPARISONS_TIME_WILCOXON, Double.class);
+		comparisons.addColumn(COMPARISONS_TIME_SIGN, Double.class);
+		comparisons.addColumn(COMPARISONS_TIME_EFFECT, Double.class);
+		cactus.addColumn(CACTUS_PLANNER, String.class);
+		cactus.addColumn(CACTUS_SOLVED, Integer.class);
+		cactus.addColumn(CACTUS_VISITED, Long.class);
+		cactus.addColumn(CACTUS_GENERATED, Long.class);
+		cactus.addColumn(CACTUS_TIME, Long.class);
+		scaling.addColumn(SCALING_PROBLEM, String.class);
+		scaling.addColumn(SCALING_PLANNER, String.class);
+		scaling.addColumn(SCALING_CHARACTERS, Integer.class);
+		scaling.addColumn(SCALING_ITEMS, Integer.class);
+		scaling.addColumn(SCALING_ACTIONS, Integer.class);
+		scaling.addColumn(SCALING_NESTING, Integer.class);
+		scaling.addColumn(SCALING_GROUND_FLUENTS, Integer.class);
+		scaling.addColumn(SCALING_GROUND_ACTIONS, Integer.class);
+		scaling.addColumn(SCALING_SUCCESSES, Long.class);
+		scaling.addColumn(SCALING_AVG_VISITED, Double.class);
+		scaling.addColumn(SCALING_AVG_GENERATED, Double.class);
+		scaling.addColumn(SCALING_AVG_TIME, Double.class);
+		collectors.addColumn(COLLECTORS_NAME, String.class);
+		collectors.addColumn(COLLECTORS_PAUSE, Boolean.class);
+		collectors.addColumn(COLLECTORS_COUNT, Long.class);
+		collectors.addColumn(COLLECTORS_TOTAL_TIME, Long.class);
+		collectors.addColumn(COLLECTORS_MAX_TIME, Long.class);
+		collectors.addColumn(COLLECTORS_AVG_TIME, Double.class);
+		collectors.addColumn(COLLECTORS_SHARE, Double.class);
+		configuration.addColumn(CONFIGURATION_SETTING, String.class);
+		configuration.addColumn(CONFIGURATION_VALUE, String.class);
+		configure("Sabre Version", Settings.VERSION_STRING);
+		configure("Java Vendor", System.getProperty("java.vendor"));
+		configure("Java Version", System.getProperty("java.version"));
+		configure("JVM Arguments", String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments()));
+		configure("OS Name", System.getProperty("os.name"));
+		configure("OS Version", System.getProperty("os.version"));
+		configure("Processors", Runtime.getRuntime().availableProcessors());
+		configure("Max Memory", Runtime.getRuntime().maxMemory());
+		configure("Threads", Main.THREADS);
+		configure("Runs", Main.RUNS);
+		configure("Adaptive", Main.ADAPTIVE);
+		configure("Min Runs", Main.MIN_RUNS);
+		configure("Target Width", Main.TARGET_WIDTH);
+		configure("Min Time Width", Main.MIN_TIME_WIDTH);
+		configure("Shuffle", Main.SHUFFLE);
+		configure("Shuffle Seed", Main.SHUFFLE_SEED);
+		configure("Seed", Main.SEED);
+		configure("Warmup", Main.WARMUP);
+		configure("Warmup Limit", Main.WARMUP_LIMIT);
+		configure("Profile Heuristics", Main.PROFILE_HEURISTICS);
+	}
+	
+	private void configure(String setting, Object value) {
+		configuration.addRow(setting);
+		configuration.set(setting, CONFIGURATION_SETTING, setting);
+		configuration.set(setting, CONFIGURATION_VALUE, value.toString());
 	}
 	
 	@Override
@@ -575,6 +1606,36 @@ public class Report {
 			throw new IllegalStateException("End time already set.");
 	}
 	
+	/**
+	 * Returns the number of unrecorded {@link TestSuite#warmup(Status) warmup
+	 * searches} that were run before the tests began.
+	 * 
+	 * @return the number of warmup searches
+	 */
+	public int getWarmups() {
+		return warmups;
+	}
+	
+	/**
+	 * Returns how long the {@link #getWarmups() warmup searches} took.
+	 * 
+	 * @return the time spent on warmup searches in milliseconds
+	 */
+	public long getWarmupTime() {
+		return warmupTime;
+	}
+	
+	/**
+	 * Records the warmup searches that were run before the tests began.
+	 * 
+	 * @param warmups the number of warmup searches
+	 * @param time the time spent on warmup searches in milliseconds
+	 */
+	public void setWarmup(int warmups, long time) {
+		this.warmups = warmups;
+		this.warmupTime = time;
+	}
+	
 	/**
 	 * Returns the sum of all {@link Result#time time spent} on all tests across
 	 * all threads.
@@ -615,6 +1676,9 @@ public class Report {
 		problems.set(problem, PROBLEMS_ATL, benchmark.atl);
 		problems.set(problem, PROBLEMS_CTL, benchmark.ctl);
 		problems.set(problem, PROBLEMS_EL, benchmark.el);
+		problems.set(problem, PROBLEMS_PARSE_TIME, benchmark.getParseTime());
+		if(benchmark instanceof GeneratedBenchmark)
+			generated.put(problem, (GeneratedBenchmark) benchmark);
 	}
 	
 	/**
@@ -629,6 +1693,9 @@ public class Report {
 		planners.set(planner, PLANNERS_SEARCH, planner.getMethod().toString());
 		planners.set(planner, PLANNERS_COST, planner.getCost().toString());
 		planners.set(planner, PLANNERS_HEURISTIC, planner.getHeuristic().toString());
+		planners.set(planner, PLANNERS_SEARCH_LIMIT, planner.getSearchLimit());
+		planners.set(planner, PLANNERS_SPACE_LIMIT, planner.getSpaceLimit());
+		planners.set(planner, PLANNERS_TIME_LIMIT, planner.getTimeLimit());
 	}
 	
 	/**
@@ -644,46 +1711,285 @@ public class Report {
 		results.set(test, RESULTS_PROBLEM, test.problem.name);
 		results.set(test, RESULTS_PLANNER, test.planner.name);
 		results.set(test, RESULTS_RUN, test.run);
+		results.set(test, RESULTS_SEED, test.problem.getShuffleSeed(test.run));
 		results.set(test, RESULTS_SUCCESS, result.getSuccess());
 		if(result.getSuccess())
 			results.set(test, RESULTS_PLAN_LENGTH, result.solution.size());
 		results.set(test, RESULTS_VISITED, result.visited);
 		results.set(test, RESULTS_GENERATED, result.generated);
 		results.set(test, RESULTS_TIME, result.time);
+		results.set(test, RESULTS_CPU_TIME, test.getCPUTime());
+		results.set(test, RESULTS_USER_TIME, test.getUserTime());
+		results.set(test, RESULTS_ALLOCATED, test.getAllocatedBytes());
+		results.set(test, RESULTS_GC_PAUSE, test.getGCPauseTime());
+		results.set(test, RESULTS_COMPILE_TIME, test.getPhaseTime(Phase.COMPILE));
+		results.set(test, RESULTS_SHUFFLE_TIME, test.getPhaseTime(Phase.SHUFFLE));
+		results.set(test, RESULTS_SETUP_TIME, test.getPhaseTime(Phase.SETUP));
+		results.set(test, RESULTS_SEARCH_TIME, test.getPhaseTime(Phase.SEARCH));
+		ProfilingHeuristic.Profile profile = test.getHeuristicProfile();
+		if(profile != null && profile.getCalls() > 0) {
+			Long search = test.getPhaseTime(Phase.SEARCH);
+			results.set(test, RESULTS_HEURISTIC_CALLS, profile.getCalls());
+			results.set(test, RESULTS_HEURISTIC_TIME, profile.time.getSum());
+			if(search != null && search > 0)
+				results.set(test, RESULTS_HEURISTIC_SHARE, (double) profile.time.getSum() / search);
+			results.set(test, RESULTS_MED_HEURISTIC_CALL, profile.time.getQuantile(0.5));
+			results.set(test, RESULTS_P99_HEURISTIC_CALL, profile.time.getQuantile(0.99));
+			results.set(test, RESULTS_INFINITE_HEURISTIC, (double) profile.getInfinite() / profile.getCalls());
+			results.set(test, RESULTS_AVG_HEURISTIC, profile.getMean());
+			results.set(test, RESULTS_MED_HEURISTIC, profile.getMedian());
+		}
+		ProgressSampler.Series progress = test.getProgress();
+		if(progress != null) {
+			results.set(test, RESULTS_START_RATE, progress.getRate(0, 1.0 / 3));
+			results.set(test, RESULTS_MIDDLE_RATE, progress.getRate(1.0 / 3, 2.0 / 3));
+			results.set(test, RESULTS_END_RATE, progress.getRate(2.0 / 3, 1));
+			results.set(test, RESULTS_MAX_HEAP, progress.getMaxHeap());
+		}
 	}
 	
-	private static final class ResultsFilter implements Predicate<Table.Cell> {
-
-		public final Object column;
-		public final Problem problem;
-		public final ProgressionPlanner planner;
-		
-		public ResultsFilter(Object column, Problem problem, ProgressionPlanner planner) {
-			this.column = column;
-			this.problem = problem;
-			this.planner = planner;
+	/**
+	 * Adds statistics about each garbage collector to the {@link #collectors
+	 * collectors table}.
+	 * 
+	 * @param collections every garbage collection that happened while tests
+	 * were running
+	 */
+	public void addCollections(Iterable<GCMonitor.Collection> collections) {
+		LinkedHashMap<String, Accumulator> times = new LinkedHashMap<>();
+		HashMap<String, Boolean> pauses = new HashMap<>();
+		long start = Long.MAX_VALUE;
+		long end = Long.MIN_VALUE;
+		for(GCMonitor.Collection collection : collections) {
+			times.computeIfAbsent(collection.name, name -> new Accumulator()).add(collection.getDuration());
+			pauses.put(collection.name, collection.pause);
+			start = Math.min(start, collection.start);
+			end = Math.max(end, collection.end);
+		}
+		long duration = this.start == -1 ? end - start : System.currentTimeMillis() - this.start;
+		for(Map.Entry<String, Accumulator> entry : times.entrySet()) {
+			String name = entry.getKey();
+			Accumulator time = entry.getValue();
+			collectors.addRow(name);
+			collectors.set(name, COLLECTORS_NAME, name);
+			collectors.set(name, COLLECTORS_PAUSE, pauses.get(name));
+			collectors.set(name, COLLECTORS_COUNT, Statistic.COUNT.calculate(time));
+			collectors.set(name, COLLECTORS_TOTAL_TIME, Statistic.SUM_INTEGER.calculate(time));
+			collectors.set(name, COLLECTORS_MAX_TIME, Statistic.MAX_INTEGER.calculate(time));
+			collectors.set(name, COLLECTORS_AVG_TIME, Statistic.AVERAGE.calculate(time));
+			if(duration > 0)
+				collectors.set(name, COLLECTORS_SHARE, time.getDecimalSum() / duration);
+		}
+	}
+	
+	/**
+	 * Copies the values of every {@link Table.Row row} in a table into arrays
+	 * indexed by {@link Table.Column#getIndex() column index}. This is done in
+	 * a single pass over the table's cells so that the values can be grouped
+	 * and read by many threads at once without searching the table.
+	 * 
+	 * @param table the table whose rows will be copied
+	 * @return a list of the table's rows, in order
+	 */
+	private static final List<Object[]> toArrays(Table table) {
+		ArrayList<Object[]> rows = new ArrayList<>(table.rows.size());
+		Table.Row current = null;
+		Object[] values = null;
+		for(Table.Cell cell : table) {
+			if(cell.row != current) {
+				current = cell.row;
+				values = new Object[table.columns.size()];
+				rows.add(values);
+			}
+			values[cell.column.getIndex()] = cell.get();
 		}
+		return rows;
+	}
+	
+	/**
+	 * {@link Accumulator Accumulators} for the numeric columns of some rows
+	 * {@link #toArrays(Table) copied from the results table}, which hold all
+	 * the statistics needed for one group of tests.
+	 */
+	private static final class Accumulators {
+		
+		/** The plan lengths of successful tests */
+		public final Accumulator length = new Accumulator();
+		
+		/** The number of nodes visited by each test */
+		public final Accumulator visited = new Accumulator();
+		
+		/** The number of nodes generated by each test */
+		public final Accumulator generated = new Accumulator();
+		
+		/** The time taken by each test */
+		public final Accumulator time = new Accumulator();
+		
+		/** The CPU time used by each test */
+		public final Accumulator cpu = new Accumulator();
+		
+		/** The CPU time spent in user mode by each test */
+		public final Accumulator user = new Accumulator();
+		
+		/** The number of bytes allocated by each test */
+		public final Accumulator allocated = new Accumulator();
+		
+		/** The time spent compiling for each test */
+		public final Accumulator compile = new Accumulator();
+		
+		/** The time spent shuffling for each test */
+		public final Accumulator shuffle = new Accumulator();
 		
-		public ResultsFilter(Object column, Problem problem) {
-			this(column, problem, null);
+		/** The time spent setting up the search for each test */
+		public final Accumulator setup = new Accumulator();
+		
+		/** The time spent searching for each test */
+		public final Accumulator search = new Accumulator();
+		
+		/** The time spent evaluating the heuristic for each profiled test */
+		public final Accumulator heuristic = new Accumulator();
+		
+		/** The time spent searching for each profiled test */
+		public final Accumulator profiled = new Accumulator();
+		
+		/**
+		 * Constructs an empty set of accumulators.
+		 */
+		public Accumulators() {
+			// Empty
 		}
 		
-		public ResultsFilter(Object column, ProgressionPlanner planner) {
-			this(column, null, planner);
+		/**
+		 * Constructs a set of accumulators for some rows from the results
+		 * table.
+		 * 
+		 * @param rows the rows from the results table
+		 * @param columns the results table's columns
+		 */
+		public Accumulators(List<Object[]> rows, Table.Group<Table.Column> columns) {
+			int length = columns.get(RESULTS_PLAN_LENGTH).getIndex();
+			int visited = columns.get(RESULTS_VISITED).getIndex();
+			int generated = columns.get(RESULTS_GENERATED).getIndex();
+			int time = columns.get(RESULTS_TIME).getIndex();
+			int cpu = columns.get(RESULTS_CPU_TIME).getIndex();
+			int user = columns.get(RESULTS_USER_TIME).getIndex();
+			int allocated = columns.get(RESULTS_ALLOCATED).getIndex();
+			int compile = columns.get(RESULTS_COMPILE_TIME).getIndex();
+			int shuffle = columns.get(RESULTS_SHUFFLE_TIME).getIndex();
+			int setup = columns.get(RESULTS_SETUP_TIME).getIndex();
+			int search = columns.get(RESULTS_SEARCH_TIME).getIndex();
+			int heuristic = columns.get(RESULTS_HEURISTIC_TIME).getIndex();
+			for(Object[] row : rows) {
+				this.length.add((Number) row[length]);
+				this.visited.add((Number) row[visited]);
+				this.generated.add((Number) row[generated]);
+				this.time.add((Number) row[time]);
+				this.cpu.add((Number) row[cpu]);
+				this.user.add((Number) row[user]);
+				this.allocated.add((Number) row[allocated]);
+				this.compile.add((Number) row[compile]);
+				this.shuffle.add((Number) row[shuffle]);
+				this.setup.add((Number) row[setup]);
+				this.search.add((Number) row[search]);
+				if(row[heuristic] != null && row[search] != null) {
+					this.heuristic.add((Number) row[heuristic]);
+					this.profiled.add((Number) row[search]);
+				}
+			}
 		}
 		
-		@Override
-		public boolean test(Table.Cell cell) {
-			return cell.column.label.equals(column) &&
-				(problem == null || cell.row.get(RESULTS_PROBLEM).get().equals(problem.name)) &&
-				(planner == null || cell.row.get(RESULTS_PLANNER).get().equals(planner.name));
+		/**
+		 * Adds all the values from another set of accumulators to this one.
+		 * 
+		 * @param other the accumulators to merge into these
+		 */
+		public void merge(Accumulators other) {
+			length.merge(other.length);
+			visited.merge(other.visited);
+			generated.merge(other.generated);
+			time.merge(other.time);
+			cpu.merge(other.cpu);
+			user.merge(other.user);
+			allocated.merge(other.allocated);
+			compile.merge(other.compile);
+			shuffle.merge(other.shuffle);
+			setup.merge(other.setup);
+			search.merge(other.search);
+			heuristic.merge(other.heuristic);
+			profiled.merge(other.profiled);
 		}
 	}
 	
 	/**
-	 * Fills in the {@link #summary summary} and {@link #best best} tables.
+	 * Runs each of a list of calculations in parallel on the {@link
+	 * ForkJoinPool#commonPool() common fork-join pool} and returns their
+	 * results in the same order as the calculations were given, regardless of
+	 * the order in which they finish.
+	 * 
+	 * @param <T> the type of object each calculation returns
+	 * @param tasks the calculations to run
+	 * @return the results of each calculation, in order
+	 */
+	private static final <T> List<T> calculate(List<Callable<T>> tasks) {
+		ArrayList<ForkJoinTask<T>> forks = new ArrayList<>(tasks.size());
+		for(Callable<T> task : tasks)
+			forks.add(ForkJoinPool.commonPool().submit(task));
+		ArrayList<T> results = new ArrayList<>(forks.size());
+		for(ForkJoinTask<T> fork : forks)
+			results.add(fork.join());
+		return results;
+	}
+	
+	/**
+	 * Sets the values of one row in a table to those given in a map from
+	 * column labels to values.
+	 * 
+	 * @param table the table to modify
+	 * @param row the label of the row to modify
+	 * @param values a map from column labels to the values to set
+	 */
+	private static final void set(Table table, Object row, Map<String, Object> values) {
+		for(Map.Entry<String, Object> entry : values.entrySet())
+			table.set(row, entry.getKey(), entry.getValue());
+	}
+	
+	/**
+	 * Fills in the {@link #summary summary}, {@link #comparisons comparisons},
+	 * {@link #cactus cactus}, and {@link #scaling scaling} tables and adds
+	 * additional columns to the {@link #planners planners} and {@link
+	 * #problems problems} tables. The statistics for each row of each table
+	 * are calculated in parallel, but the rows are always added to the tables
+	 * in the same order.
 	 */
 	private void fillSummary() {
+		// Group the results of each test by problem and planner in one pass.
+		LinkedHashMap<List<String>, ArrayList<Object[]>> groups = new LinkedHashMap<>();
+		for(Table.Row problem : problems.rows)
+			for(Table.Row planner : planners.rows)
+				groups.put(List.of(((Problem) problem.label).name, ((ProgressionPlanner) planner.label).name), new ArrayList<>());
+		int problemIndex = results.columns.get(RESULTS_PROBLEM).getIndex();
+		int plannerIndex = results.columns.get(RESULTS_PLANNER).getIndex();
+		List<Object[]> all = toArrays(results);
+		for(Object[] row : all) {
+			ArrayList<Object[]> group = groups.get(List.of(row[problemIndex], row[plannerIndex]));
+			if(group != null)
+				group.add(row);
+		}
+		// Accumulate statistics for each problem and planner.
+		ArrayList<Callable<Accumulators>> accumulate = new ArrayList<>();
+		for(ArrayList<Object[]> group : groups.values())
+			accumulate.add(() -> new Accumulators(group, results.columns));
+		LinkedHashMap<List<String>, Accumulators> statistics = new LinkedHashMap<>();
+		List<Accumulators> accumulated = calculate(accumulate);
+		int index = 0;
+		for(List<String> key : groups.keySet())
+			statistics.put(key, accumulated.get(index++));
+		// Calculate summary statistics for each problem and planner.
+		ArrayList<Callable<Map<String, Object>>> tasks = new ArrayList<>();
+		for(List<String> key : groups.keySet())
+			tasks.add(() -> summarize(statistics.get(key), groups.get(key)));
+		List<Map<String, Object>> rows = calculate(tasks);
+		index = 0;
 		for(int i=0; i<problems.rows.size(); i++) {
 			Problem problem = (Problem) problems.rows.get(i).label;
 			for(int j=0; j<planners.rows.size(); j++) {
@@ -692,101 +1998,513 @@ public class Report {
 				summary.addRow(key);
 				summary.set(key, SUMMARY_PROBLEM, problem.name);
 				summary.set(key, SUMMARY_PLANNER, planner.name);
-				Iterable<Integer> length = results.values(Integer.class, new ResultsFilter(RESULTS_PLAN_LENGTH, problem, planner));
-				summary.set(key, SUMMARY_SUCCESSES, Statistic.COUNT.calculate(length));
-				summary.set(key, SUMMARY_MIN_PLAN_LENGTH, Statistic.MIN_INTEGER.calculate(length));
-				summary.set(key, SUMMARY_MAX_PLAN_LENGTH, Statistic.MAX_INTEGER.calculate(length));
-				summary.set(key, SUMMARY_AVG_PLAN_LENGTH, Statistic.AVERAGE.calculate(length));
-				summary.set(key, SUMMARY_STD_PLAN_LENGTH, Statistic.STANDARD_DEVIATION.calculate(length));
-				Iterable<Long> visited = results.values(Long.class, new ResultsFilter(RESULTS_VISITED, problem, planner));
-				summary.set(key, SUMMARY_MIN_VISITED, Statistic.MIN_INTEGER.calculate(visited));
-				summary.set(key, SUMMARY_MAX_VISITED, Statistic.MAX_INTEGER.calculate(visited));
-				summary.set(key, SUMMARY_AVG_VISITED, Statistic.AVERAGE.calculate(visited));
-				summary.set(key, SUMMARY_STD_VISITED, Statistic.STANDARD_DEVIATION.calculate(visited));
-				Iterable<Long> generated = results.values(Long.class, new ResultsFilter(RESULTS_GENERATED, problem, planner));
-				summary.set(key, SUMMARY_MIN_GENERATED, Statistic.MIN_INTEGER.calculate(generated));
-				summary.set(key, SUMMARY_MAX_GENERATED, Statistic.MAX_INTEGER.calculate(generated));
-				summary.set(key, SUMMARY_AVG_GENERATED, Statistic.AVERAGE.calculate(generated));
-				summary.set(key, SUMMARY_STD_GENERATED, Statistic.STANDARD_DEVIATION.calculate(generated));
-				Iterable<Long> time = results.values(Long.class, new ResultsFilter(RESULTS_TIME, problem, planner));
-				summary.set(key, SUMMARY_MIN_TIME, Statistic.MIN_INTEGER.calculate(time));
-				summary.set(key, SUMMARY_MAX_TIME, Statistic.MAX_INTEGER.calculate(time));
-				summary.set(key, SUMMARY_AVG_TIME, Statistic.AVERAGE.calculate(time));
-				summary.set(key, SUMMARY_STD_TIME, Statistic.STANDARD_DEVIATION.calculate(time));
+				set(summary, key, rows.get(index++));
 			}
 		}
+		// Calculate statistics for each planner across all problems.
 		planners.addColumn(PLANNERS_SOLVED, Long.class);
 		planners.addColumn(PLANNERS_UNIQUE_SOLVED, Long.class);
 		planners.addColumn(PLANNERS_VISITED, Long.class);
 		planners.addColumn(PLANNERS_GENERATED, Long.class);
 		planners.addColumn(PLANNERS_TIME, Long.class);
+		planners.addColumn(PLANNERS_MED_VISITED, Double.class);
+		planners.addColumn(PLANNERS_P90_VISITED, Double.class);
+		planners.addColumn(PLANNERS_P99_VISITED, Double.class);
+		planners.addColumn(PLANNERS_MED_GENERATED, Double.class);
+		planners.addColumn(PLANNERS_P90_GENERATED, Double.class);
+		planners.addColumn(PLANNERS_P99_GENERATED, Double.class);
+		planners.addColumn(PLANNERS_MED_TIME, Double.class);
+		planners.addColumn(PLANNERS_P90_TIME, Double.class);
+		planners.addColumn(PLANNERS_P99_TIME, Double.class);
+		planners.addColumn(PLANNERS_COVERAGE, Double.class);
+		planners.addColumn(PLANNERS_TIME_SCORE, Double.class);
+		planners.addColumn(PLANNERS_NODE_SCORE, Double.class);
+		planners.addColumn(PLANNERS_PAR, Double.class);
+		planners.addColumn(PLANNERS_SPEEDUP, Double.class);
+		planners.addColumn(PLANNERS_BYTES_PER_NODE, Double.class);
+		planners.addColumn(PLANNERS_HEURISTIC_SHARE, Double.class);
+		tasks.clear();
+		for(Table.Row row : planners.rows) {
+			String planner = ((ProgressionPlanner) row.label).name;
+			ArrayList<Accumulators> group = new ArrayList<>();
+			for(Map.Entry<List<String>, Accumulators> entry : statistics.entrySet())
+				if(entry.getKey().get(1).equals(planner))
+					group.add(entry.getValue());
+			tasks.add(() -> summarizePlanner(group));
+		}
+		rows = calculate(tasks);
+		for(int i=0; i<planners.rows.size(); i++)
+			set(planners, planners.rows.get(i).label, rows.get(i));
+		// Score each planner against the best performance on each problem.
+		LinkedHashMap<String, LinkedHashMap<List<Object>, Object[]>> runs = new LinkedHashMap<>();
+		for(Table.Row row : planners.rows)
+			runs.put(((ProgressionPlanner) row.label).name, new LinkedHashMap<>());
+		int runIndex = results.columns.get(RESULTS_RUN).getIndex();
+		int successIndex = results.columns.get(RESULTS_SUCCESS).getIndex();
+		int visitedIndex = results.columns.get(RESULTS_VISITED).getIndex();
+		int timeIndex = results.columns.get(RESULTS_TIME).getIndex();
+		HashMap<Object, double[]> best = new HashMap<>();
+		long longest = 0;
+		for(Object[] row : all) {
+			LinkedHashMap<List<Object>, Object[]> planner = runs.get(row[plannerIndex]);
+			if(planner != null)
+				planner.put(List.of(row[problemIndex], row[runIndex]), row);
+			long time = ((Number) row[timeIndex]).longValue();
+			longest = Math.max(longest, time);
+			if(Boolean.TRUE.equals(row[successIndex])) {
+				double[] values = best.computeIfAbsent(row[problemIndex], problem -> new double[] { Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY });
+				values[0] = Math.min(values[0], time);
+				values[1] = Math.min(values[1], ((Number) row[visitedIndex]).doubleValue());
+			}
+		}
+		tasks.clear();
 		for(Table.Row row : planners.rows) {
 			ProgressionPlanner planner = (ProgressionPlanner) row.label;
-			planners.set(planner, PLANNERS_SOLVED, Statistic.SUM_INTEGER.calculate(summary.values(Long.class, cell -> {
-				return
-					cell.row.get(SUMMARY_PLANNER).get().equals(planner.name) &&
-					cell.column.label.equals(SUMMARY_SUCCESSES);
-			})));
-			planners.set(planner, PLANNERS_UNIQUE_SOLVED, Statistic.COUNT.calculate(summary.values(Long.class, cell -> {
-				return
-					cell.row.get(SUMMARY_PLANNER).get().equals(planner.name) &&
-					cell.column.label.equals(SUMMARY_SUCCESSES) &&
-					cell.get(Long.class) > 0;
-			})));
-			planners.set(planner, PLANNERS_VISITED, Statistic.SUM_INTEGER.calculate(results.values(Long.class, new ResultsFilter(RESULTS_VISITED, planner))));
-			planners.set(planner, PLANNERS_GENERATED, Statistic.SUM_INTEGER.calculate(results.values(Long.class, new ResultsFilter(RESULTS_GENERATED, planner))));
-			planners.set(planner, PLANNERS_TIME, Statistic.SUM_INTEGER.calculate(results.values(Long.class, new ResultsFilter(RESULTS_TIME, planner))));
+			ArrayList<List<Object[]>> group = new ArrayList<>();
+			for(Table.Row problem : problems.rows)
+				group.add(groups.get(List.of(((Problem) problem.label).name, planner.name)));
+			long limit = planner.getTimeLimit() == Planner.UNLIMITED_TIME ? longest : planner.getTimeLimit();
+			tasks.add(() -> score(group, best, limit, runs.get(Main.BASELINE)));
 		}
+		rows = calculate(tasks);
+		for(int i=0; i<planners.rows.size(); i++)
+			set(planners, planners.rows.get(i).label, rows.get(i));
 		planners.sort(PLANNERS_TIME, Long.class, Statistic.INTEGER_ASCENDING);
 		planners.sort(PLANNERS_GENERATED, Long.class, Statistic.INTEGER_ASCENDING);
 		planners.sort(PLANNERS_VISITED, Long.class, Statistic.INTEGER_ASCENDING);
 		planners.sort(PLANNERS_SOLVED, Long.class, Statistic.INTEGER_DESCENDING);
+		// Compare each planner to each other planner on the same runs.
+		tasks.clear();
+		for(Table.Row first : planners.rows) {
+			for(Table.Row second : planners.rows) {
+				if(first != second) {
+					LinkedHashMap<List<Object>, Object[]> planner = runs.get(((ProgressionPlanner) first.label).name);
+					LinkedHashMap<List<Object>, Object[]> opponent = runs.get(((ProgressionPlanner) second.label).name);
+					tasks.add(() -> compare(planner, opponent));
+				}
+			}
+		}
+		rows = calculate(tasks);
+		index = 0;
+		for(Table.Row first : planners.rows) {
+			for(Table.Row second : planners.rows) {
+				if(first != second) {
+					ProgressionPlanner planner = (ProgressionPlanner) first.label;
+					ProgressionPlanner opponent = (ProgressionPlanner) second.label;
+					Object key = new ImmutableArray<>(planner, opponent);
+					comparisons.addRow(key);
+					comparisons.set(key, COMPARISONS_PLANNER, planner.name);
+					comparisons.set(key, COMPARISONS_OPPONENT, opponent.name);
+					set(comparisons, key, rows.get(index++));
+				}
+			}
+		}
+		// Sort the costs of each planner's successful runs.
+		ArrayList<Callable<long[][]>> sort = new ArrayList<>();
+		for(Table.Row row : planners.rows) {
+			String planner = ((ProgressionPlanner) row.label).name;
+			ArrayList<Object[]> group = new ArrayList<>();
+			for(Map.Entry<List<String>, ArrayList<Object[]>> entry : groups.entrySet())
+				if(entry.getKey().get(1).equals(planner))
+					group.addAll(entry.getValue());
+			sort.add(() -> sortSolved(group));
+		}
+		List<long[][]> sorted = calculate(sort);
+		for(int i=0; i<planners.rows.size(); i++) {
+			ProgressionPlanner planner = (ProgressionPlanner) planners.rows.get(i).label;
+			long[][] values = sorted.get(i);
+			for(int k=0; k<values[0].length; k++) {
+				Object key = new ImmutableArray<>(planner, k + 1);
+				cactus.addRow(key);
+				cactus.set(key, CACTUS_PLANNER, planner.name);
+				cactus.set(key, CACTUS_SOLVED, k + 1);
+				cactus.set(key, CACTUS_VISITED, values[0][k]);
+				cactus.set(key, CACTUS_GENERATED, values[1][k]);
+				cactus.set(key, CACTUS_TIME, values[2][k]);
+			}
+		}
+		// Calculate statistics for each problem across all planners.
 		problems.addColumn(PROBLEMS_SOLVED, Long.class);
 		problems.addColumn(PROBLEMS_UNIQUE_SOLVED, Long.class);
 		problems.addColumn(PROBLEMS_MIN_VISITED, Long.class);
 		problems.addColumn(PROBLEMS_MAX_VISITED, Long.class);
 		problems.addColumn(PROBLEMS_AVG_VISITED, Double.class);
 		problems.addColumn(PROBLEMS_STD_VISITED, Double.class);
+		problems.addColumn(PROBLEMS_MED_VISITED, Double.class);
+		problems.addColumn(PROBLEMS_P90_VISITED, Double.class);
+		problems.addColumn(PROBLEMS_P99_VISITED, Double.class);
 		problems.addColumn(PROBLEMS_MIN_GENERATED, Long.class);
 		problems.addColumn(PROBLEMS_MAX_GENERATED, Long.class);
 		problems.addColumn(PROBLEMS_AVG_GENERATED, Double.class);
 		problems.addColumn(PROBLEMS_STD_GENERATED, Double.class);
+		problems.addColumn(PROBLEMS_MED_GENERATED, Double.class);
+		problems.addColumn(PROBLEMS_P90_GENERATED, Double.class);
+		problems.addColumn(PROBLEMS_P99_GENERATED, Double.class);
 		problems.addColumn(PROBLEMS_MIN_TIME, Long.class);
 		problems.addColumn(PROBLEMS_MAX_TIME, Long.class);
 		problems.addColumn(PROBLEMS_AVG_TIME, Double.class);
-		problems.addColumn(PROBLEMS_STD_TIME, Double.class);	
+		problems.addColumn(PROBLEMS_STD_TIME, Double.class);
+		problems.addColumn(PROBLEMS_MED_TIME, Double.class);
+		problems.addColumn(PROBLEMS_P90_TIME, Double.class);
+		problems.addColumn(PROBLEMS_P99_TIME, Double.class);
+		problems.addColumn(PROBLEMS_MIN_ALLOCATED, Long.class);
+		problems.addColumn(PROBLEMS_MAX_ALLOCATED, Long.class);
+		problems.addColumn(PROBLEMS_AVG_ALLOCATED, Double.class);
+		problems.addColumn(PROBLEMS_COMPILE_TIME, Long.class);
+		problems.addColumn(PROBLEMS_SHUFFLE_TIME, Long.class);
+		problems.addColumn(PROBLEMS_SETUP_TIME, Long.class);
+		problems.addColumn(PROBLEMS_SEARCH_TIME, Long.class);
+		problems.addColumn(PROBLEMS_PREPROCESSING_SHARE, Double.class);
+		tasks.clear();
 		for(Table.Row row : problems.rows) {
-			Problem problem = (Problem) row.label;
-			problems.set(problem, PROBLEMS_SOLVED, Statistic.SUM_INTEGER.calculate(summary.values(Long.class, cell -> {
-				return
-					cell.row.get(SUMMARY_PROBLEM).get().equals(problem.name) &&
-					cell.column.label.equals(SUMMARY_SUCCESSES);
-			})));
-			problems.set(problem, PROBLEMS_UNIQUE_SOLVED, Statistic.COUNT.calculate(summary.values(Long.class, cell -> {
-				return
-					cell.row.get(SUMMARY_PROBLEM).get().equals(problem.name) &&
-					cell.column.label.equals(SUMMARY_SUCCESSES) &&
-					cell.get(Long.class) > 0;
-			})));
-			Iterable<Long> visited = results.values(Long.class, new ResultsFilter(RESULTS_VISITED, problem));
-			problems.set(problem, PROBLEMS_MIN_VISITED, Statistic.MIN_INTEGER.calculate(visited));
-			problems.set(problem, PROBLEMS_MAX_VISITED, Statistic.MAX_INTEGER.calculate(visited));
-			problems.set(problem, PROBLEMS_AVG_VISITED, Statistic.AVERAGE.calculate(visited));
-			problems.set(problem, PROBLEMS_STD_VISITED, Statistic.STANDARD_DEVIATION.calculate(visited));
-			Iterable<Long> generated = results.values(Long.class, new ResultsFilter(RESULTS_GENERATED, problem));
-			problems.set(problem, PROBLEMS_MIN_GENERATED, Statistic.MIN_INTEGER.calculate(generated));
-			problems.set(problem, PROBLEMS_MAX_GENERATED, Statistic.MAX_INTEGER.calculate(generated));
-			problems.set(problem, PROBLEMS_AVG_GENERATED, Statistic.AVERAGE.calculate(generated));
-			problems.set(problem, PROBLEMS_STD_GENERATED, Statistic.STANDARD_DEVIATION.calculate(generated));
-			Iterable<Long> time = results.values(Long.class, new ResultsFilter(RESULTS_TIME, problem));
-			problems.set(problem, PROBLEMS_MIN_TIME, Statistic.MIN_INTEGER.calculate(time));
-			problems.set(problem, PROBLEMS_MAX_TIME, Statistic.MAX_INTEGER.calculate(time));
-			problems.set(problem, PROBLEMS_AVG_TIME, Statistic.AVERAGE.calculate(time));
-			problems.set(problem, PROBLEMS_STD_TIME, Statistic.STANDARD_DEVIATION.calculate(time));
+			String problem = ((Problem) row.label).name;
+			ArrayList<Accumulators> group = new ArrayList<>();
+			for(Map.Entry<List<String>, Accumulators> entry : statistics.entrySet())
+				if(entry.getKey().get(0).equals(problem))
+					group.add(entry.getValue());
+			tasks.add(() -> summarizeProblem(group));
 		}
+		rows = calculate(tasks);
+		for(int i=0; i<problems.rows.size(); i++)
+			set(problems, problems.rows.get(i).label, rows.get(i));
 		problems.sort(PROBLEMS_AVG_TIME, Double.class, Statistic.DECIMAL_ASCENDING);
 		problems.sort(PROBLEMS_AVG_GENERATED, Double.class, Statistic.DECIMAL_ASCENDING);
 		problems.sort(PROBLEMS_AVG_VISITED, Double.class, Statistic.DECIMAL_ASCENDING);
-		problems.sort(PROBLEMS_SOLVED, Long.class, Statistic.INTEGER_DESCENDING);		
+		problems.sort(PROBLEMS_SOLVED, Long.class, Statistic.INTEGER_DESCENDING);
+		// Combine the size of each generated problem with each planner's results.
+		for(Table.Row row : planners.rows) {
+			ProgressionPlanner planner = (ProgressionPlanner) row.label;
+			for(Map.Entry<Problem, GeneratedBenchmark> entry : generated.entrySet()) {
+				Problem problem = entry.getKey();
+				GeneratedBenchmark benchmark = entry.getValue();
+				Object key = new ImmutableArray<>(problem, planner);
+				scaling.addRow(key);
+				scaling.set(key, SCALING_PROBLEM, problem.name);
+				scaling.set(key, SCALING_PLANNER, planner.name);
+				scaling.set(key, SCALING_CHARACTERS, benchmark.characters);
+				scaling.set(key, SCALING_ITEMS, benchmark.items);
+				scaling.set(key, SCALING_ACTIONS, benchmark.actions);
+				scaling.set(key, SCALING_NESTING, benchmark.nesting);
+				scaling.set(key, SCALING_GROUND_FLUENTS, problems.get(problem, PROBLEMS_GROUND_FLUENTS).get());
+				scaling.set(key, SCALING_GROUND_ACTIONS, problems.get(problem, PROBLEMS_GROUND_ACTIONS).get());
+				scaling.set(key, SCALING_SUCCESSES, summary.get(key, SUMMARY_SUCCESSES).get());
+				scaling.set(key, SCALING_AVG_VISITED, summary.get(key, SUMMARY_AVG_VISITED).get());
+				scaling.set(key, SCALING_AVG_GENERATED, summary.get(key, SUMMARY_AVG_GENERATED).get());
+				scaling.set(key, SCALING_AVG_TIME, summary.get(key, SUMMARY_AVG_TIME).get());
+			}
+		}
+	}
+	
+	/**
+	 * Calculates the values of one row in the {@link #summary summary table}
+	 * from the results of every test of one planner on one problem.
+	 * 
+	 * @param statistics the accumulated results for one planner and problem
+	 * @param rows the rows from the results table for one planner and problem,
+	 * which are resampled to calculate confidence intervals
+	 * @return a map from summary column labels to values
+	 */
+	private Map<String, Object> summarize(Accumulators statistics, List<Object[]> rows) {
+		LinkedHashMap<String, Object> row = new LinkedHashMap<>();
+		row.put(SUMMARY_SUCCESSES, Statistic.COUNT.calculate(statistics.length));
+		row.put(SUMMARY_MIN_PLAN_LENGTH, Statistic.MIN_INTEGER.calculate(statistics.length));
+		row.put(SUMMARY_MAX_PLAN_LENGTH, Statistic.MAX_INTEGER.calculate(statistics.length));
+		row.put(SUMMARY_AVG_PLAN_LENGTH, Statistic.AVERAGE.calculate(statistics.length));
+		row.put(SUMMARY_STD_PLAN_LENGTH, Statistic.STANDARD_DEVIATION.calculate(statistics.length));
+		row.put(SUMMARY_MIN_VISITED, Statistic.MIN_INTEGER.calculate(statistics.visited));
+		row.put(SUMMARY_MAX_VISITED, Statistic.MAX_INTEGER.calculate(statistics.visited));
+		row.put(SUMMARY_AVG_VISITED, Statistic.AVERAGE.calculate(statistics.visited));
+		row.put(SUMMARY_STD_VISITED, Statistic.STANDARD_DEVIATION.calculate(statistics.visited));
+		row.put(SUMMARY_MED_VISITED, Statistic.MEDIAN.calculate(statistics.visited));
+		row.put(SUMMARY_P90_VISITED, Statistic.PERCENTILE_90.calculate(statistics.visited));
+		row.put(SUMMARY_P99_VISITED, Statistic.PERCENTILE_99.calculate(statistics.visited));
+		double[] visited = toArray(rows, RESULTS_VISITED);
+		put(row, SUMMARY_AVG_VISITED_LOW, SUMMARY_AVG_VISITED_HIGH, BOOTSTRAP.getInterval(visited, Bootstrap.MEAN));
+		put(row, SUMMARY_MED_VISITED_LOW, SUMMARY_MED_VISITED_HIGH, BOOTSTRAP.getInterval(visited, Bootstrap.MEDIAN));
+		row.put(SUMMARY_MIN_GENERATED, Statistic.MIN_INTEGER.calculate(statistics.generated));
+		row.put(SUMMARY_MAX_GENERATED, Statistic.MAX_INTEGER.calculate(statistics.generated));
+		row.put(SUMMARY_AVG_GENERATED, Statistic.AVERAGE.calculate(statistics.generated));
+		row.put(SUMMARY_STD_GENERATED, Statistic.STANDARD_DEVIATION.calculate(statistics.generated));
+		row.put(SUMMARY_MED_GENERATED, Statistic.MEDIAN.calculate(statistics.generated));
+		row.put(SUMMARY_P90_GENERATED, Statistic.PERCENTILE_90.calculate(statistics.generated));
+		row.put(SUMMARY_P99_GENERATED, Statistic.PERCENTILE_99.calculate(statistics.generated));
+		row.put(SUMMARY_MIN_TIME, Statistic.MIN_INTEGER.calculate(statistics.time));
+		row.put(SUMMARY_MAX_TIME, Statistic.MAX_INTEGER.calculate(statistics.time));
+		row.put(SUMMARY_AVG_TIME, Statistic.AVERAGE.calculate(statistics.time));
+		row.put(SUMMARY_STD_TIME, Statistic.STANDARD_DEVIATION.calculate(statistics.time));
+		row.put(SUMMARY_MED_TIME, Statistic.MEDIAN.calculate(statistics.time));
+		row.put(SUMMARY_P90_TIME, Statistic.PERCENTILE_90.calculate(statistics.time));
+		row.put(SUMMARY_P99_TIME, Statistic.PERCENTILE_99.calculate(statistics.time));
+		double[] time = toArray(rows, RESULTS_TIME);
+		put(row, SUMMARY_AVG_TIME_LOW, SUMMARY_AVG_TIME_HIGH, BOOTSTRAP.getInterval(time, Bootstrap.MEAN));
+		put(row, SUMMARY_MED_TIME_LOW, SUMMARY_MED_TIME_HIGH, BOOTSTRAP.getInterval(time, Bootstrap.MEDIAN));
+		row.put(SUMMARY_AVG_CPU_TIME, Statistic.AVERAGE.calculate(statistics.cpu));
+		row.put(SUMMARY_STD_CPU_TIME, Statistic.STANDARD_DEVIATION.calculate(statistics.cpu));
+		row.put(SUMMARY_AVG_USER_TIME, Statistic.AVERAGE.calculate(statistics.user));
+		row.put(SUMMARY_STD_USER_TIME, Statistic.STANDARD_DEVIATION.calculate(statistics.user));
+		row.put(SUMMARY_MIN_ALLOCATED, Statistic.MIN_INTEGER.calculate(statistics.allocated));
+		row.put(SUMMARY_MAX_ALLOCATED, Statistic.MAX_INTEGER.calculate(statistics.allocated));
+		row.put(SUMMARY_AVG_ALLOCATED, Statistic.AVERAGE.calculate(statistics.allocated));
+		return row;
+	}
+	
+	/**
+	 * Returns the non-null values from one column of some rows {@link
+	 * #toArrays(Table) copied from the results table}.
+	 * 
+	 * @param rows the rows from the results table
+	 * @param column the label of the column
+	 * @return the values from that column as an array of decimals
+	 */
+	private final double[] toArray(List<Object[]> rows, Object column) {
+		int index = results.columns.get(column).getIndex();
+		double[] values = new double[rows.size()];
+		int count = 0;
+		for(Object[] row : rows)
+			if(row[index] != null)
+				values[count++] = ((Number) row[index]).doubleValue();
+		return Arrays.copyOf(values, count);
+	}
+	
+	private static final void put(Map<String, Object> row, String lower, String upper, Bootstrap.Interval interval) {
+		row.put(lower, interval == null ? null : interval.lower);
+		row.put(upper, interval == null ? null : interval.upper);
+	}
+	
+	/**
+	 * Calculates the values of the additional columns in the {@link #planners
+	 * planners table} for one planner by merging its accumulated results on
+	 * each problem.
+	 * 
+	 * @param groups the accumulated results for this planner on each problem
+	 * @return a map from planners column labels to values
+	 */
+	private static Map<String, Object> summarizePlanner(List<Accumulators> groups) {
+		LinkedHashMap<String, Object> row = new LinkedHashMap<>();
+		Accumulators statistics = merge(groups);
+		row.put(PLANNERS_SOLVED, Statistic.COUNT.calculate(statistics.length));
+		row.put(PLANNERS_UNIQUE_SOLVED, countSolved(groups));
+		row.put(PLANNERS_VISITED, Statistic.SUM_INTEGER.calculate(statistics.visited));
+		row.put(PLANNERS_GENERATED, Statistic.SUM_INTEGER.calculate(statistics.generated));
+		row.put(PLANNERS_TIME, Statistic.SUM_INTEGER.calculate(statistics.time));
+		row.put(PLANNERS_MED_VISITED, Statistic.MEDIAN.calculate(statistics.visited));
+		row.put(PLANNERS_P90_VISITED, Statistic.PERCENTILE_90.calculate(statistics.visited));
+		row.put(PLANNERS_P99_VISITED, Statistic.PERCENTILE_99.calculate(statistics.visited));
+		row.put(PLANNERS_MED_GENERATED, Statistic.MEDIAN.calculate(statistics.generated));
+		row.put(PLANNERS_P90_GENERATED, Statistic.PERCENTILE_90.calculate(statistics.generated));
+		row.put(PLANNERS_P99_GENERATED, Statistic.PERCENTILE_99.calculate(statistics.generated));
+		row.put(PLANNERS_MED_TIME, Statistic.MEDIAN.calculate(statistics.time));
+		row.put(PLANNERS_P90_TIME, Statistic.PERCENTILE_90.calculate(statistics.time));
+		row.put(PLANNERS_P99_TIME, Statistic.PERCENTILE_99.calculate(statistics.time));
+		if(statistics.allocated.getCount() > 0 && statistics.visited.getIntegerSum() > 0)
+			row.put(PLANNERS_BYTES_PER_NODE, statistics.allocated.getDecimalSum() / statistics.visited.getIntegerSum());
+		if(statistics.profiled.getIntegerSum() > 0)
+			row.put(PLANNERS_HEURISTIC_SHARE, statistics.heuristic.getDecimalSum() / statistics.profiled.getIntegerSum());
+		return row;
+	}
+	
+	/**
+	 * Calculates the scores in the {@link #planners planners table} for one
+	 * planner.
+	 * 
+	 * @param problems the planner's rows from the results table, grouped by
+	 * problem
+	 * @param best a map from problem names to the least time and fewest nodes
+	 * visited by any planner that solved that problem
+	 * @param limit the time limit used to penalize failed runs
+	 * @param baseline the baseline planner's rows from the results table,
+	 * keyed by problem name and run number, or null if the baseline planner
+	 * was not tested
+	 * @return a map from planners column labels to values
+	 */
+	private Map<String, Object> score(List<List<Object[]>> problems, Map<Object, double[]> best, long limit, Map<List<Object>, Object[]> baseline) {
+		int problemIndex = results.columns.get(RESULTS_PROBLEM).getIndex();
+		int runIndex = results.columns.get(RESULTS_RUN).getIndex();
+		int successIndex = results.columns.get(RESULTS_SUCCESS).getIndex();
+		int visitedIndex = results.columns.get(RESULTS_VISITED).getIndex();
+		int timeIndex = results.columns.get(RESULTS_TIME).getIndex();
+		long runs = 0;
+		long solved = 0;
+		double timeScore = 0;
+		double nodeScore = 0;
+		double penalized = 0;
+		double speedup = 0;
+		long pairs = 0;
+		for(List<Object[]> group : problems) {
+			double time = 0;
+			double nodes = 0;
+			for(Object[] row : group) {
+				runs++;
+				long taken = ((Number) row[timeIndex]).longValue();
+				if(Boolean.TRUE.equals(row[successIndex])) {
+					solved++;
+					double[] values = best.get(row[problemIndex]);
+					time += score(taken, values[0]);
+					nodes += score(((Number) row[visitedIndex]).doubleValue(), values[1]);
+					penalized += taken;
+					Object[] other = baseline == null ? null : baseline.get(List.of(row[problemIndex], row[runIndex]));
+					if(other != null && Boolean.TRUE.equals(other[successIndex])) {
+						speedup += Math.log(Math.max(1, ((Number) other[timeIndex]).doubleValue()) / Math.max(1, taken));
+						pairs++;
+					}
+				}
+				else
+					penalized += (double) Main.PAR * limit;
+			}
+			if(group.size() > 0) {
+				timeScore += time / group.size();
+				nodeScore += nodes / group.size();
+			}
+		}
+		LinkedHashMap<String, Object> row = new LinkedHashMap<>();
+		row.put(PLANNERS_COVERAGE, runs == 0 ? null : (double) solved / runs);
+		row.put(PLANNERS_TIME_SCORE, timeScore);
+		row.put(PLANNERS_NODE_SCORE, nodeScore);
+		row.put(PLANNERS_PAR, runs == 0 ? null : penalized / runs);
+		row.put(PLANNERS_SPEEDUP, pairs == 0 ? null : Math.exp(speedup / pairs));
+		return row;
+	}
+	
+	/**
+	 * Returns the IPC-style score of one successful run, which is 1 if the run
+	 * was the best and decreases logarithmically as the run gets worse. Values
+	 * less than 1 (such as runs that took less than a millisecond) are treated
+	 * as 1.
+	 * 
+	 * @param value the time taken or nodes visited by the run
+	 * @param best the least time taken or nodes visited by any run
+	 * @return the score, between 0 and 1
+	 */
+	private static final double score(double value, double best) {
+		return 1 / (1 + Math.log10(Math.max(1, value) / Math.max(1, best)));
+	}
+	
+	/**
+	 * Calculates the values of one row in the {@link #comparisons comparisons
+	 * table} by pairing each run of a planner on a problem with the same run
+	 * of the opponent on the same problem.
+	 * 
+	 * @param planner the planner's rows from the results table, keyed by
+	 * problem name and run number
+	 * @param opponent the opponent's rows from the results table, keyed by
+	 * problem name and run number
+	 * @return a map from comparisons column labels to values
+	 */
+	private Map<String, Object> compare(Map<List<Object>, Object[]> planner, Map<List<Object>, Object[]> opponent) {
+		ArrayList<Object[]> first = new ArrayList<>();
+		ArrayList<Object[]> second = new ArrayList<>();
+		for(Map.Entry<List<Object>, Object[]> entry : planner.entrySet()) {
+			Object[] other = opponent.get(entry.getKey());
+			if(other != null) {
+				first.add(entry.getValue());
+				second.add(other);
+			}
+		}
+		LinkedHashMap<String, Object> row = new LinkedHashMap<>();
+		row.put(COMPARISONS_PAIRS, first.size());
+		PairedTest visited = new PairedTest(toArray(first, RESULTS_VISITED), toArray(second, RESULTS_VISITED));
+		row.put(COMPARISONS_VISITED_WINS, visited.smaller);
+		row.put(COMPARISONS_VISITED_LOSSES, visited.larger);
+		row.put(COMPARISONS_VISITED_WILCOXON, visited.wilcoxon);
+		row.put(COMPARISONS_VISITED_SIGN, visited.sign);
+		row.put(COMPARISONS_VISITED_EFFECT, visited.effect);
+		PairedTest time = new PairedTest(toArray(first, RESULTS_TIME), toArray(second, RESULTS_TIME));
+		row.put(COMPARISONS_TIME_WINS, time.smaller);
+		row.put(COMPARISONS_TIME_LOSSES, time.larger);
+		row.put(COMPARISONS_TIME_WILCOXON, time.wilcoxon);
+		row.put(COMPARISONS_TIME_SIGN, time.sign);
+		row.put(COMPARISONS_TIME_EFFECT, time.effect);
+		return row;
+	}
+	
+	/**
+	 * Returns the nodes visited, nodes generated, and time taken by the
+	 * successful tests among some rows from the results table, with each
+	 * measure sorted separately from least to greatest.
+	 * 
+	 * @param rows the rows from the results table
+	 * @return an array of the sorted nodes visited, nodes generated, and times
+	 */
+	private long[][] sortSolved(List<Object[]> rows) {
+		int success = results.columns.get(RESULTS_SUCCESS).getIndex();
+		int visited = results.columns.get(RESULTS_VISITED).getIndex();
+		int generated = results.columns.get(RESULTS_GENERATED).getIndex();
+		int time = results.columns.get(RESULTS_TIME).getIndex();
+		long[][] values = new long[3][rows.size()];
+		int count = 0;
+		for(Object[] row : rows) {
+			if(Boolean.TRUE.equals(row[success])) {
+				values[0][count] = ((Number) row[visited]).longValue();
+				values[1][count] = ((Number) row[generated]).longValue();
+				values[2][count++] = ((Number) row[time]).longValue();
+			}
+		}
+		for(int i=0; i<values.length; i++) {
+			values[i] = Arrays.copyOf(values[i], count);
+			Arrays.sort(values[i]);
+		}
+		return values;
+	}
+	
+	/**
+	 * Calculates the values of the additional columns in the {@link #problems
+	 * problems table} for one problem by merging the accumulated results of
+	 * each planner on it.
+	 * 
+	 * @param groups the accumulated results for each planner on this problem
+	 * @return a map from problems column labels to values
+	 */
+	private static Map<String, Object> summarizeProblem(List<Accumulators> groups) {
+		LinkedHashMap<String, Object> row = new LinkedHashMap<>();
+		Accumulators statistics = merge(groups);
+		row.put(PROBLEMS_SOLVED, Statistic.COUNT.calculate(statistics.length));
+		row.put(PROBLEMS_UNIQUE_SOLVED, countSolved(groups));
+		row.put(PROBLEMS_MIN_VISITED, Statistic.MIN_INTEGER.calculate(statistics.visited));
+		row.put(PROBLEMS_MAX_VISITED, Statistic.MAX_INTEGER.calculate(statistics.visited));
+		row.put(PROBLEMS_AVG_VISITED, Statistic.AVERAGE.calculate(statistics.visited));
+		row.put(PROBLEMS_STD_VISITED, Statistic.STANDARD_DEVIATION.calculate(statistics.visited));
+		row.put(PROBLEMS_MED_VISITED, Statistic.MEDIAN.calculate(statistics.visited));
+		row.put(PROBLEMS_P90_VISITED, Statistic.PERCENTILE_90.calculate(statistics.visited));
+		row.put(PROBLEMS_P99_VISITED, Statistic.PERCENTILE_99.calculate(statistics.visited));
+		row.put(PROBLEMS_MIN_GENERATED, Statistic.MIN_INTEGER.calculate(statistics.generated));
+		row.put(PROBLEMS_MAX_GENERATED, Statistic.MAX_INTEGER.calculate(statistics.generated));
+		row.put(PROBLEMS_AVG_GENERATED, Statistic.AVERAGE.calculate(statistics.generated));
+		row.put(PROBLEMS_STD_GENERATED, Statistic.STANDARD_DEVIATION.calculate(statistics.generated));
+		row.put(PROBLEMS_MED_GENERATED, Statistic.MEDIAN.calculate(statistics.generated));
+		row.put(PROBLEMS_P90_GENERATED, Statistic.PERCENTILE_90.calculate(statistics.generated));
+		row.put(PROBLEMS_P99_GENERATED, Statistic.PERCENTILE_99.calculate(statistics.generated));
+		row.put(PROBLEMS_MIN_TIME, Statistic.MIN_INTEGER.calculate(statistics.time));
+		row.put(PROBLEMS_MAX_TIME, Statistic.MAX_INTEGER.calculate(statistics.time));
+		row.put(PROBLEMS_AVG_TIME, Statistic.AVERAGE.calculate(statistics.time));
+		row.put(PROBLEMS_STD_TIME, Statistic.STANDARD_DEVIATION.calculate(statistics.time));
+		row.put(PROBLEMS_MED_TIME, Statistic.MEDIAN.calculate(statistics.time));
+		row.put(PROBLEMS_P90_TIME, Statistic.PERCENTILE_90.calculate(statistics.time));
+		row.put(PROBLEMS_P99_TIME, Statistic.PERCENTILE_99.calculate(statistics.time));
+		row.put(PROBLEMS_MIN_ALLOCATED, Statistic.MIN_INTEGER.calculate(statistics.allocated));
+		row.put(PROBLEMS_MAX_ALLOCATED, Statistic.MAX_INTEGER.calculate(statistics.allocated));
+		row.put(PROBLEMS_AVG_ALLOCATED, Statistic.AVERAGE.calculate(statistics.allocated));
+		row.put(PROBLEMS_COMPILE_TIME, Statistic.SUM_INTEGER.calculate(statistics.compile));
+		row.put(PROBLEMS_SHUFFLE_TIME, Statistic.SUM_INTEGER.calculate(statistics.shuffle));
+		row.put(PROBLEMS_SETUP_TIME, Statistic.SUM_INTEGER.calculate(statistics.setup));
+		row.put(PROBLEMS_SEARCH_TIME, Statistic.SUM_INTEGER.calculate(statistics.search));
+		double preprocessing = statistics.compile.getDecimalSum() + statistics.shuffle.getDecimalSum() + statistics.setup.getDecimalSum();
+		if(preprocessing + statistics.search.getDecimalSum() > 0)
+			row.put(PROBLEMS_PREPROCESSING_SHARE, preprocessing / (preprocessing + statistics.search.getDecimalSum()));
+		return row;
+	}
+	
+	private static final Accumulators merge(List<Accumulators> groups) {
+		Accumulators merged = new Accumulators();
+		for(Accumulators group : groups)
+			merged.merge(group);
+		return merged;
+	}
+	
+	private static final long countSolved(List<Accumulators> groups) {
+		long count = 0;
+		for(Accumulators group : groups)
+			if(group.length.getCount() > 0)
+				count++;
+		return count;
 	}
 }
\ No newline at end of file
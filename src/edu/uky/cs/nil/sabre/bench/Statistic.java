@@ -18,12 +18,8 @@ public interface Statistic<N extends Number> {
 	public static final Statistic<Long> COUNT = new Statistic<>() {
 
 		@Override
-		public Long calculate(Iterable<? extends Number> values) {
-			long count = 0;
-			for(Number value : values)
-				if(value != null)
-					count++;
-			return count;
+		public Long calculate(Accumulator values) {
+			return values.getCount();
 		}
 	};
 	
@@ -34,12 +30,8 @@ public interface Statistic<N extends Number> {
 	public static final Statistic<Long> MIN_INTEGER = new Statistic<>() {
 
 		@Override
-		public Long calculate(Iterable<? extends Number> values) {
-			Long min = null;
-			for(Long value : toIntegers(values))
-				if(value != null && (min == null || compare(value, min) < 0))
-					min = value;
-			return min;
+		public Long calculate(Accumulator values) {
+			return values.getIntegerMin();
 		}		
 	};
 	
@@ -50,12 +42,8 @@ public interface Statistic<N extends Number> {
 	public static final Statistic<Long> MAX_INTEGER = new Statistic<>() {
 
 		@Override
-		public Long calculate(Iterable<? extends Number> values) {
-			Long max = null;
-			for(Long value : toIntegers(values))
-				if(value != null && (max == null || compare(value, max) > 0))
-					max = value;
-			return max;
+		public Long calculate(Accumulator values) {
+			return values.getIntegerMax();
 		}		
 	};
 	
@@ -66,12 +54,8 @@ public interface Statistic<N extends Number> {
 	public static final Statistic<Long> SUM_INTEGER = new Statistic<>() {
 
 		@Override
-		public Long calculate(Iterable<? extends Number> values) {
-			long sum = 0;
-			for(Number value : values)
-				if(value != null)
-					sum += toInteger(value);
-			return sum;
+		public Long calculate(Accumulator values) {
+			return values.getIntegerSum();
 		}
 	};
 	
@@ -82,12 +66,8 @@ public interface Statistic<N extends Number> {
 	public static final Statistic<Double> SUM_DECIMAL = new Statistic<>() {
 
 		@Override
-		public Double calculate(Iterable<? extends Number> values) {
-			double sum = 0;
-			for(Number value : values)
-				if(value != null)
-					sum += toDecimal(value);
-			return sum;
+		public Double calculate(Accumulator values) {
+			return values.getDecimalSum();
 		}
 	};
 	
@@ -98,11 +78,8 @@ public interface Statistic<N extends Number> {
 	public static final Statistic<Double> AVERAGE = new Statistic<>() {
 
 		@Override
-		public Double calculate(Iterable<? extends Number> values) {
-			Long count = COUNT.calculate(values);
-			if(count == 0)
-				return null;
-			return SUM_DECIMAL.calculate(values) / count.doubleValue();
+		public Double calculate(Accumulator values) {
+			return values.getMean();
 		}
 	};
 	
@@ -113,22 +90,29 @@ public interface Statistic<N extends Number> {
 	public static final Statistic<Double> STANDARD_DEVIATION = new Statistic<>() {
 
 		@Override
-		public Double calculate(Iterable<? extends Number> values) {
-			Double average = AVERAGE.calculate(values);
-			if(average == null)
-				return null;
-			double sum = 0;
-			for(Double value : toDecimals(values)) {
-				if(value != null) {
-					double difference = value - average;
-					sum += difference * difference;
-				}
-			}
-			double count = COUNT.calculate(values).doubleValue();
-			return Math.sqrt(sum / count);
+		public Double calculate(Accumulator values) {
+			return values.getStandardDeviation();
 		}
 	};
 	
+	/**
+	 * Returns the median of all non-null numbers in a collection, or null if
+	 * no non-null numbers were given
+	 */
+	public static final Statistic<Double> MEDIAN = quantile(0.5);
+	
+	/**
+	 * Returns the 90th percentile of all non-null numbers in a collection, or
+	 * null if no non-null numbers were given
+	 */
+	public static final Statistic<Double> PERCENTILE_90 = quantile(0.9);
+	
+	/**
+	 * Returns the 99th percentile of all non-null numbers in a collection, or
+	 * null if no non-null numbers were given
+	 */
+	public static final Statistic<Double> PERCENTILE_99 = quantile(0.99);
+	
 	/** Orders integer values from smallest to largest */
 	public static final Comparator<Long> INTEGER_ASCENDING = new Comparator<Long>() {
 
@@ -165,6 +149,29 @@ public interface Statistic<N extends Number> {
 		}
 	};
 	
+	/**
+	 * Returns a statistic which calculates the value at a given quantile of
+	 * all non-null numbers in a collection, or null if no non-null numbers
+	 * were given. Quantiles are exact for small collections and estimated by
+	 * a {@link QuantileSketch quantile sketch} for large ones.
+	 * 
+	 * @param quantile the quantile, between 0 (the minimum) and 1 (the
+	 * maximum)
+	 * @return a statistic for that quantile
+	 * @throws IllegalArgumentException if the quantile is not between 0 and 1
+	 */
+	public static Statistic<Double> quantile(double quantile) {
+		if(quantile < 0 || quantile > 1)
+			throw new IllegalArgumentException("A quantile must be between 0 and 1.");
+		return new Statistic<>() {
+			
+			@Override
+			public Double calculate(Accumulator values) {
+				return values.getQuantile(quantile);
+			}
+		};
+	}
+	
 	/**
 	 * Converts a number to a Java {@code long} integer, or returns null if the
 	 * given number is null
@@ -223,7 +230,9 @@ public interface Statistic<N extends Number> {
 	
 	/**
 	 * Returns a negative integer, zero, or a positive integer as the first
-	 * number is less than, equal to, or greater than the second.
+	 * number is less than, equal to, or greater than the second. Two integers
+	 * or two decimals are compared as primitive values; an integer and a
+	 * decimal are compared exactly.
 	 * 
 	 * @param n1 the first number to compare
 	 * @param n2 the second number to compare
@@ -231,15 +240,36 @@ public interface Statistic<N extends Number> {
 	 * number is less than, equal to, or greater than the second
 	 */
 	public static int compare(Number n1, Number n2) {
-		return new BigDecimal(n1.toString()).compareTo(new BigDecimal(n2.toString()));
+		boolean integer1 = Accumulator.isInteger(n1);
+		boolean integer2 = Accumulator.isInteger(n2);
+		if(integer1 && integer2)
+			return Long.compare(n1.longValue(), n2.longValue());
+		else if(!integer1 && !integer2)
+			return Double.compare(n1.doubleValue(), n2.doubleValue());
+		else
+			return new BigDecimal(n1.toString()).compareTo(new BigDecimal(n2.toString()));
 	}
 	
 	/**
-	 * Performs that statistic's calculation and returns the result.
+	 * Performs that statistic's calculation on a collection of numbers and
+	 * returns the result. The numbers are read in a single pass by an {@link
+	 * Accumulator accumulator}.
 	 * 
 	 * @param values the collection of numbers on which to perform the
 	 * calculation
 	 * @return the value of the calculation
 	 */
-	public N calculate(Iterable<? extends Number> values);
+	public default N calculate(Iterable<? extends Number> values) {
+		return calculate(new Accumulator(values));
+	}
+	
+	/**
+	 * Performs that statistic's calculation on the numbers that have been
+	 * added to an {@link Accumulator accumulator} and returns the result.
+	 * 
+	 * @param values an accumulator of the numbers on which to perform the
+	 * calculation
+	 * @return the value of the calculation
+	 */
+	public N calculate(Accumulator values);
 }
\ No newline at end of file
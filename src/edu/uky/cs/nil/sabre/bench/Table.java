@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.function.Predicate;
 
@@ -24,6 +25,9 @@ public class Table implements Iterable<Table.Cell> {
 		/** The label for this sequence of cells */
 		public final Object label;
 		
+		/** The number of this sequence in its {@link Group group} */
+		private int index;
+		
 		/**
 		 * Constructs a new sequence of cells with the given label.
 		 * 
@@ -39,7 +43,9 @@ public class Table implements Iterable<Table.Cell> {
 		 * 
 		 * @return this sequence's number
 		 */
-		public abstract int getIndex();
+		public int getIndex() {
+			return index;
+		}
 		
 		/**
 		 * Returns the {@link Cell cell} from this sequence with the given
@@ -84,6 +90,9 @@ public class Table implements Iterable<Table.Cell> {
 		/** The sequences in this group, in order */
 		private final ArrayList<S> members = new ArrayList<>();
 		
+		/** The first sequence in this group with each label */
+		private final HashMap<Object, S> labels = new HashMap<>();
+		
 		/**
 		 * Constructs a new, empty group.
 		 */
@@ -91,6 +100,31 @@ public class Table implements Iterable<Table.Cell> {
 			// Empty
 		}
 		
+		/**
+		 * Adds a sequence to the end of this group.
+		 * 
+		 * @param member the new sequence
+		 */
+		private void add(S member) {
+			((Sequence) member).index = members.size();
+			members.add(member);
+			labels.putIfAbsent(member.label, member);
+		}
+		
+		/**
+		 * Reorders the sequences in this group and renumbers them.
+		 * 
+		 * @param comparator a comparator defining the new order
+		 */
+		private void sort(Comparator<? super S> comparator) {
+			members.sort(comparator);
+			labels.clear();
+			for(int i=0; i<members.size(); i++) {
+				((Sequence) members.get(i)).index = i;
+				labels.putIfAbsent(members.get(i).label, members.get(i));
+			}
+		}
+		
 		@Override
 		public Iterator<S> iterator() {
 			return members.iterator();
@@ -124,9 +158,9 @@ public class Table implements Iterable<Table.Cell> {
 		 * @throws IllegalArgumentException if no sequence has the given label
 		 */
 		public S get(Object label) {
-			for(S member : members)
-				if(member.label.equals(label))
-					return member;
+			S member = labels.get(label);
+			if(member != null)
+				return member;
 			throw new IllegalArgumentException("No sequence in this group has the label \"" + label + "\".");
 		}
 	}
@@ -152,7 +186,7 @@ public class Table implements Iterable<Table.Cell> {
 		public Column(Object label, Class<?> type) {
 			super(label);
 			this.type = type;
-			columns.members.add(this);
+			columns.add(this);
 			for(Row row : rows)
 				new Cell(this, row);
 			sort();
@@ -160,20 +194,29 @@ public class Table implements Iterable<Table.Cell> {
 
 		@Override
 		public Iterator<Cell> iterator() {
-			return cells(c -> c.column == this).iterator();
+			ArrayList<Cell> cells = new ArrayList<>(rows.size());
+			for(Row row : rows)
+				cells.add(row.cells.get(getIndex()));
+			return cells.iterator();
 		}
 		
 		@Override
-		public int getIndex() {
-			return columns.members.indexOf(this);
+		public Cell get(int index) {
+			if(index < 0 || index >= rows.size())
+				throw new IndexOutOfBoundsException("There is no cell " + index + " in this sequence.");
+			return rows.get(index).cells.get(getIndex());
 		}
 		
 		@Override
 		public Cell get(Object rowLabel) {
-			for(Cell cell : this)
-				if(cell.row.label.equals(rowLabel))
-					return cell;
-			throw new IllegalArgumentException("There is no row with label \"" + rowLabel + "\".");
+			Row row;
+			try {
+				row = rows.get(rowLabel);
+			}
+			catch(IllegalArgumentException e) {
+				throw new IllegalArgumentException("There is no row with label \"" + rowLabel + "\".");
+			}
+			return row.cells.get(getIndex());
 		}
 	}
 	
@@ -182,6 +225,9 @@ public class Table implements Iterable<Table.Cell> {
 	 */
 	public class Row extends Sequence {
 		
+		/** The cells in this row, in order by column */
+		private final ArrayList<Cell> cells = new ArrayList<>();
+		
 		/**
 		 * Constructs a new row.
 		 * 
@@ -189,28 +235,34 @@ public class Table implements Iterable<Table.Cell> {
 		 */
 		public Row(Object label) {
 			super(label);
-			rows.members.add(this);
+			rows.add(this);
 			for(Column column : columns)
 				new Cell(column, this);
-			sort();
+			Table.this.cells.addAll(cells);
 		}
 		
 		@Override
 		public Iterator<Cell> iterator() {
-			return cells(c -> c.row == this).iterator();
+			return new ArrayList<>(cells).iterator();
 		}
 		
 		@Override
-		public int getIndex() {
-			return rows.members.indexOf(this);
+		public Cell get(int index) {
+			if(index < 0 || index >= cells.size())
+				throw new IndexOutOfBoundsException("There is no cell " + index + " in this sequence.");
+			return cells.get(index);
 		}
 		
 		@Override
 		public Cell get(Object columnLabel) {
-			for(Cell cell : this)
-				if(cell.column.label.equals(columnLabel))
-					return cell;
-			throw new IllegalArgumentException("There is no column with label \"" + columnLabel + "\".");
+			Column column;
+			try {
+				column = columns.get(columnLabel);
+			}
+			catch(IllegalArgumentException e) {
+				throw new IllegalArgumentException("There is no column with label \"" + columnLabel + "\".");
+			}
+			return cells.get(column.getIndex());
 		}
 	}
 	
@@ -241,7 +293,7 @@ public class Table implements Iterable<Table.Cell> {
 		private Cell(Column column, Row row) {
 			this.column = column;
 			this.row = row;
-			cells.add(this);
+			row.cells.add(this);
 		}
 		
 		/**
@@ -278,21 +330,6 @@ public class Table implements Iterable<Table.Cell> {
 		}
 	}
 	
-	/**
-	 * A comparator used to sort the cells of a table after the rows are
-	 * reordered.
-	 */
-	private static final Comparator<Cell> ORDER = new Comparator<>() {
-
-		@Override
-		public int compare(Cell c1, Cell c2) {
-			int comparison = c1.row.getIndex() - c2.row.getIndex();
-			if(comparison == 0)
-				comparison = c1.column.getIndex() - c2.column.getIndex();
-			return comparison;
-		}
-	};
-	
 	/** The columns in this table, in order */
 	public final Group<Column> columns = new Group<>();
 	
@@ -382,9 +419,7 @@ public class Table implements Iterable<Table.Cell> {
 	 * labels
 	 */
 	public void set(Object rowLabel, Object columnLabel, Object value) {
-		Column column = columns.get(columnLabel);
-		Cell cell = column.get(rowLabel);
-		cell.set(value);
+		get(rowLabel, columnLabel).set(value);
 	}
 	
 	/**
@@ -427,7 +462,7 @@ public class Table implements Iterable<Table.Cell> {
 	 * @param comparator a comparator defining the new order of rows
 	 */
 	public void sort(Comparator<? super Row> comparator) {
-		rows.members.sort(comparator);
+		rows.sort(comparator);
 		sort();
 	}
 	
@@ -453,9 +488,11 @@ public class Table implements Iterable<Table.Cell> {
 	
 	/**
 	 * Reorders the {@link #cells cells} in the table after the rows have been
-	 * reordered.
+	 * reordered or a column has been added.
 	 */
 	private void sort() {
-		cells.sort(ORDER);
+		cells.clear();
+		for(Row row : rows)
+			cells.addAll(row.cells);
 	}
 }
\ No newline at end of file
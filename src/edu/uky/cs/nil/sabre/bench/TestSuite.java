@@ -1,18 +1,42 @@
 package edu.uky.cs.nil.sabre.bench;
 
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import edu.uky.cs.nil.sabre.comp.CompiledAction;
 import edu.uky.cs.nil.sabre.prog.ProgressionPlanner;
 import edu.uky.cs.nil.sabre.prog.ProgressionSearch;
+import edu.uky.cs.nil.sabre.search.Planner;
 import edu.uky.cs.nil.sabre.search.Result;
 import edu.uky.cs.nil.sabre.util.Worker.Status;
 
 /**
  * Each {@link Test test} in a test suite represents one run of one {@link
  * ProgressionPlanner planner} on one {@link Benchmark benchmark problem}; the
- * suite coordinates {@link Main#THREADS some number of threads} to run tests in
+ * suite coordinates {@link #threads some number of threads} to run tests in
  * parallel.
+ * <p>
+ * If {@link Main#ADAPTIVE} is true, each planner is first run on each problem
+ * {@link Main#MIN_RUNS a few times}, and another run is added each time the
+ * pair's runs finish until the {@link Bootstrap bootstrap confidence
+ * intervals} of the median nodes visited and median time are both narrower
+ * than {@link Main#TARGET_WIDTH} times the median (or {@link
+ * Main#MIN_TIME_WIDTH} milliseconds, for time), or the pair has been run
+ * {@link Main#RUNS the maximum number of times}. If every run of a pair has
+ * failed, or {@link Main#MIN_RUNS} of its runs have failed for the same
+ * reason (reaching the node, space, or time limit, or exhausting the search
+ * space), no more runs are added, since a failure at a limit usually fails
+ * again however the actions are shuffled. Runs are spent on the pairs whose
+ * results are still uncertain rather than on cheap, consistent ones.
  * 
  * @author Stephen G. Ware
  */
@@ -57,6 +81,45 @@ public class TestSuite {
 		/** The results of the search */
 		private Result<CompiledAction> result = null;
 		
+		/**
+		 * The CPU time in nanoseconds used by the thread that ran the search,
+		 * or null if it could not be measured
+		 */
+		private Long cpuTime = null;
+		
+		/**
+		 * The CPU time in nanoseconds the thread that ran the search spent in
+		 * user mode, or null if it could not be measured
+		 */
+		private Long userTime = null;
+		
+		/**
+		 * The number of bytes allocated on the heap by the thread that ran the
+		 * search, or null if it could not be measured
+		 */
+		private Long allocatedBytes = null;
+		
+		/**
+		 * The time in milliseconds that stop-the-world garbage collections
+		 * paused the search, or null if it could not be measured
+		 */
+		private Long gcPauseTime = null;
+		
+		/** The time spent in each phase of the test */
+		private PhaseTimer phases = null;
+		
+		/**
+		 * The profile of the search's heuristic, or null if the heuristic was
+		 * not profiled
+		 */
+		private ProfilingHeuristic.Profile heuristicProfile = null;
+		
+		/**
+		 * The series of progress samples taken while the search ran, or null
+		 * if it was not sampled
+		 */
+		private ProgressSampler.Series progress = null;
+		
 		/**
 		 * Constructs a new test.
 		 * 
@@ -80,10 +143,11 @@ public class TestSuite {
 		 * Creates the search this test will run.
 		 * 
 		 * @param status a status object to update while creating the search
+		 * @param timer a timer to record the time spent creating the search
 		 * @return the search
 		 */
-		private ProgressionSearch getSearch(Status status) {
-			return problem.getSearch(planner, run, status);
+		private ProgressionSearch getSearch(Status status, PhaseTimer timer) {
+			return problem.getSearch(planner, run, status, timer);
 		}
 		
 		/**
@@ -98,6 +162,108 @@ public class TestSuite {
 				throw new IllegalStateException("Test not complete: " + this);
 			return result;
 		}
+		
+		/**
+		 * Returns the {@link ThreadMXBean#getCurrentThreadCpuTime() CPU time}
+		 * used by the thread that ran this test while creating and running the
+		 * search, or null if the JVM does not support measuring thread CPU
+		 * time. Unlike the {@link Result#time wall clock time} of the search,
+		 * this does not include time the thread spent waiting for a processor
+		 * while other tests ran.
+		 * 
+		 * @return the CPU time in nanoseconds, or null
+		 * @throws IllegalStateException if the test is not yet complete
+		 */
+		public Long getCPUTime() {
+			getResult();
+			return cpuTime;
+		}
+		
+		/**
+		 * Returns the {@link ThreadMXBean#getCurrentThreadUserTime() CPU time}
+		 * the thread that ran this test spent in user mode while creating and
+		 * running the search, or null if the JVM does not support measuring
+		 * thread CPU time.
+		 * 
+		 * @return the user time in nanoseconds, or null
+		 * @throws IllegalStateException if the test is not yet complete
+		 */
+		public Long getUserTime() {
+			getResult();
+			return userTime;
+		}
+		
+		/**
+		 * Returns the {@link
+		 * com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long) number
+		 * of bytes allocated on the heap} by the thread that ran this test
+		 * while creating and running the search, or null if the JVM does not
+		 * support measuring thread allocation.
+		 * 
+		 * @return the bytes allocated, or null
+		 * @throws IllegalStateException if the test is not yet complete
+		 */
+		public Long getAllocatedBytes() {
+			getResult();
+			return allocatedBytes;
+		}
+		
+		/**
+		 * Returns the total time that {@link GCMonitor#getPauseTime(long,
+		 * long) stop-the-world garbage collections} overlapped the creation
+		 * and running of this test's search. These pauses may have been
+		 * caused by other tests running at the same time, and they are
+		 * included in the search's {@link Result#time wall clock time}.
+		 * 
+		 * @return the pause time in milliseconds, or null
+		 * @throws IllegalStateException if the test is not yet complete
+		 */
+		public Long getGCPauseTime() {
+			getResult();
+			return gcPauseTime;
+		}
+		
+		/**
+		 * Returns the number of nanoseconds spent in one {@link Phase phase}
+		 * of this test, or null if the test did not include that phase (for
+		 * example, the first run of a test is not {@link Phase#SHUFFLE
+		 * shuffled}, and problems are {@link Phase#PARSE parsed} once before
+		 * any tests are run).
+		 * 
+		 * @param phase the phase
+		 * @return the time spent in that phase in nanoseconds, or null
+		 * @throws IllegalStateException if the test is not yet complete
+		 */
+		public Long getPhaseTime(Phase phase) {
+			getResult();
+			return phases.get(phase);
+		}
+		
+		/**
+		 * Returns the {@link ProfilingHeuristic.Profile profile} of the
+		 * heuristic used by this test's search, or null if the planner's
+		 * heuristic was not a {@link ProfilingHeuristic profiling heuristic}.
+		 * 
+		 * @return the heuristic's profile, or null
+		 * @throws IllegalStateException if the test is not yet complete
+		 */
+		public ProfilingHeuristic.Profile getHeuristicProfile() {
+			getResult();
+			return heuristicProfile;
+		}
+		
+		/**
+		 * Returns the {@link ProgressSampler.Series series of samples} of the
+		 * search's progress taken while this test ran, or null if it was not
+		 * sampled.
+		 * 
+		 * @return the progress samples, or null
+		 * @throws IllegalStateException if the test is not yet complete
+		 */
+		public ProgressSampler.Series getProgress() {
+			getResult();
+			return progress;
+		}
 	}
 	
 	/**
@@ -109,6 +275,15 @@ public class TestSuite {
 		/** Status object for this thread */
 		private final Status status = new Status();
 		
+		/** The test this thread is running, or null if none */
+		private volatile Test test = null;
+		
+		/** The {@link System#nanoTime() time} the current test started */
+		private volatile long started = 0;
+		
+		/** The search this thread is running, or null if none */
+		private volatile ProgressionSearch search = null;
+		
 		/**
 		 * Constructs a new test runner thread.
 		 */
@@ -116,13 +291,98 @@ public class TestSuite {
 			// Empty
 		}
 		
+		/**
+		 * Returns the test this thread is currently running, or null if it is
+		 * not running a test.
+		 * 
+		 * @return the current test, or null
+		 */
+		public Test getTest() {
+			return test;
+		}
+		
+		/**
+		 * Returns the number of milliseconds since this thread started its
+		 * current test, or 0 if it is not running a test.
+		 * 
+		 * @return the elapsed time of the current test in milliseconds
+		 */
+		public long getElapsed() {
+			return test == null ? 0 : (System.nanoTime() - started) / 1000000;
+		}
+		
+		/**
+		 * Returns the number of nodes the current test's search has {@link
+		 * ProgressionSearch#getVisited() visited} so far, or 0 if it is not
+		 * searching.
+		 * 
+		 * @return the nodes visited by the current search
+		 */
+		public long getVisited() {
+			ProgressionSearch search = this.search;
+			return search == null ? 0 : search.getVisited();
+		}
+		
+		/**
+		 * Returns the number of nodes the current test's search has {@link
+		 * ProgressionSearch#getGenerated() generated} so far, or 0 if it is
+		 * not searching.
+		 * 
+		 * @return the nodes generated by the current search
+		 */
+		public long getGenerated() {
+			ProgressionSearch search = this.search;
+			return search == null ? 0 : search.getGenerated();
+		}
+		
 		@Override
 		public void run() {
 			Exception exception = new RuntimeException("One of the threads running tests did not finish correctly, perhaps due to an out of memory error.");
 			try {
 				Test test = getNext();
 				while(test != null) {
-					complete(test, test.getSearch(status).get(status));
+					long cpu = getCPUTime();
+					long user = getUserTime();
+					long allocated = getAllocatedBytes();
+					long start = GCMonitor.getUptime();
+					this.started = System.nanoTime();
+					this.test = test;
+					Events.TestEvent event = new Events.TestEvent(test);
+					event.begin();
+					PhaseTimer timer = new PhaseTimer(test.problem.name, test.planner.name, test.run);
+					ProfilingHeuristic.takeProfile();
+					ProgressionSearch search = test.getSearch(status, timer);
+					this.search = search;
+					if(sampler != null)
+						sampler.start(test, search);
+					timer.start(Phase.SEARCH);
+					Result<CompiledAction> result = search.get(status);
+					timer.stop();
+					event.success = result.getSuccess();
+					event.visited = result.visited;
+					event.generated = result.generated;
+					event.commit();
+					test.phases = timer;
+					test.heuristicProfile = ProfilingHeuristic.takeProfile();
+					test.cpuTime = elapsed(cpu, getCPUTime());
+					test.userTime = elapsed(user, getUserTime());
+					test.allocatedBytes = elapsed(allocated, getAllocatedBytes());
+					test.gcPauseTime = monitor == null ? null : monitor.getPauseTime(start, GCMonitor.getUptime());
+					test.progress = sampler == null ? null : sampler.stop(test);
+					this.search = null;
+					this.test = null;
+					List<Test> group = complete(test, result);
+					if(group != null) {
+						// The bootstrap is slow, so it runs without holding
+						// the lock that other runners need to start tests.
+						boolean run = false;
+						try {
+							run = needsRun(group);
+						}
+						finally {
+							adapt(test, group.size(), run);
+						}
+					}
 					test = getNext();
 				}
 				return;
@@ -133,45 +393,120 @@ public class TestSuite {
 			catch(Throwable t) {
 				// Keep the existing run time exception.
 			}
-			TestSuite.this.exception = exception;
+			fail(exception);
 		}
 	}
 	
-	/** All tests in this suite */
-	private final Test[] tests;
+	/** Measures the CPU time used by each runner thread */
+	private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+	
+	/**
+	 * All tests in this suite, with each planner's runs on each problem kept
+	 * together in order
+	 */
+	private final ArrayList<Test> tests = new ArrayList<>();
+	
+	/** The number of tests that run in parallel */
+	public final int threads;
 	
 	/** The report to update once each test is complete */
 	private final Report report;
 	
+	/**
+	 * The directory where the {@link ProgressSampler.Series progress samples}
+	 * of each test are written, or null if they are not written
+	 */
+	private final File progress;
+	
 	/** An exception thrown by a {@link Runner runner} */
 	private Exception exception = null;
 	
 	/** The number of completed tests */
 	private int complete = 0;
 	
+	/**
+	 * The number of finished groups of runs for which a runner is deciding
+	 * whether to {@link #adapt(Test, int, boolean) add another run}
+	 */
+	private int deciding = 0;
+	
 	/** A status object to update when tests complete */
 	private Status status = null;
 	
+	/** Records garbage collections while tests are running */
+	private GCMonitor monitor = null;
+	
+	/** Samples the progress of searches while tests are running */
+	private ProgressSampler sampler = null;
+	
+	/** The threads running tests, or null if tests are not running */
+	private volatile List<Runner> runners = null;
+	
 	/**
 	 * Constructs a new test suite which will run each planner on each benchmark
-	 * problem {@link Main#RUNS some number of times} in parallel.
+	 * problem {@link Main#RUNS some number of times} on {@link Main#THREADS
+	 * the default number of threads}.
 	 * 
 	 * @param problems the benchmark problems to test
 	 * @param planners the planner to test on each problem
 	 * @param report the report to update as tests complete
 	 */
 	public TestSuite(List<Benchmark> problems, List<ProgressionPlanner> planners, Report report) {
-		tests = new Test[problems.size() * planners.size() * Main.RUNS];
-		int index = 0;
+		this(problems, planners, report, Main.THREADS);
+	}
+	
+	/**
+	 * Constructs a new test suite which will run each planner on each benchmark
+	 * problem {@link Main#RUNS some number of times} on a given number of
+	 * threads and write the progress of each test to {@link
+	 * Main#PROGRESS_DIRECTORY the default directory}, if any.
+	 * 
+	 * @param problems the benchmark problems to test
+	 * @param planners the planner to test on each problem
+	 * @param report the report to update as tests complete
+	 * @param threads the number of tests to run in parallel
+	 * @throws IllegalArgumentException if the number of threads is less than 1
+	 */
+	public TestSuite(List<Benchmark> problems, List<ProgressionPlanner> planners, Report report, int threads) {
+		this(problems, planners, report, threads, Main.PROGRESS_DIRECTORY == null ? null : new File(Main.PROGRESS_DIRECTORY));
+	}
+	
+	/**
+	 * Constructs a new test suite which will run each planner on each benchmark
+	 * problem {@link Main#RUNS some number of times} on a given number of
+	 * threads, writing the progress of each test to a given directory. If
+	 * {@link Main#ADAPTIVE} is true, the suite starts with {@link
+	 * Main#MIN_RUNS} runs of each and adds more as they complete.
+	 * 
+	 * @param problems the benchmark problems to test
+	 * @param planners the planner to test on each problem
+	 * @param report the report to update as tests complete
+	 * @param threads the number of tests to run in parallel
+	 * @param progress the directory where the progress samples of each test
+	 * are written, or null to not write them
+	 * @throws IllegalArgumentException if the number of threads is less than 1
+	 */
+	public TestSuite(List<Benchmark> problems, List<ProgressionPlanner> planners, Report report, int threads, File progress) {
+		if(threads < 1)
+			throw new IllegalArgumentException("A test suite must run on at least 1 thread.");
+		this.threads = threads;
+		int runs = Main.ADAPTIVE ? Math.min(Main.MIN_RUNS, Main.RUNS) : Main.RUNS;
 		for(Benchmark problem : problems)
 			for(ProgressionPlanner planner : planners)
-				for(int run=1; run<=Main.RUNS; run++)
-					tests[index++] = new Test(problem, planner, run);
+				for(int run=1; run<=runs; run++)
+					tests.add(new Test(problem, planner, run));
 		this.report = report;
+		this.progress = progress;
 	}
 	
 	/**
 	 * Runs all tests in parallel, printing updates as tests start and finish.
+	 * Garbage collections that happen while tests are running are {@link
+	 * Report#addCollections(Iterable) added to the report}, and the progress
+	 * of each search is {@link ProgressSampler sampled} every {@link
+	 * Main#SAMPLE_INTERVAL few milliseconds} and written to {@link #progress
+	 * a directory}, if one was given. If {@link Main#METRICS_PORT a port}
+	 * is given, live metrics are {@link MetricsServer served} while tests run.
 	 * If one of the threads running tests throws an exception, that exception
 	 * will be caught and thrown again from this method.
 	 * 
@@ -179,49 +514,225 @@ public class TestSuite {
 	 * @throws Exception if one of the threads running tests throw an exception
 	 */
 	public void run(Status status) throws Exception {
-		status.setMessage("Running tests: %d of " + tests.length + " complete", 0);
+		status.setMessage("Running tests: %d of " + getSize() + " complete", 0);
 		this.status = status;
-		Runner[] runners = new Runner[Main.THREADS];
-		for(int i=0; i<runners.length; i++) {
-			runners[i] = new Runner();
-			runners[i].start();
+		if(THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && !THREAD_MX_BEAN.isThreadCpuTimeEnabled())
+			THREAD_MX_BEAN.setThreadCpuTimeEnabled(true);
+		if(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+			if(bean.isThreadAllocatedMemorySupported() && !bean.isThreadAllocatedMemoryEnabled())
+				bean.setThreadAllocatedMemoryEnabled(true);
+		}
+		MetricsServer server = Main.METRICS_PORT < 0 ? null : new MetricsServer(this, Main.METRICS_PORT);
+		try(
+			GCMonitor monitor = new GCMonitor();
+			ProgressSampler sampler = new ProgressSampler(Main.SAMPLE_INTERVAL, progress)
+		) {
+			this.monitor = monitor;
+			this.sampler = sampler;
+			Runner[] runners = new Runner[threads];
+			for(int i=0; i<runners.length; i++)
+				runners[i] = new Runner();
+			this.runners = List.of(runners);
+			for(Runner runner : runners)
+				runner.start();
+			for(Runner runner : runners)
+				runner.join();
+			report.addCollections(monitor.getCollections());
+		}
+		finally {
+			this.monitor = null;
+			this.sampler = null;
+			this.runners = null;
+			if(server != null)
+				server.close();
 		}
-		for(Runner runner : runners)
-			runner.join();
 		if(exception != null)
 			throw exception;
 		status.setMessage("Tests complete.");
 	}
 	
-	private synchronized Test getNext() {
-		if(exception != null)
-			return null;
-		boolean ordered = true;
-		boolean print = false;
-		Test result = null;
+	/**
+	 * Runs {@link Main#WARMUP some number} of unrecorded warmup searches for
+	 * each planner on each problem, in parallel, so that classes are loaded
+	 * and frequently used code is compiled before the measured tests begin.
+	 * Each planner's {@link ProgressionPlanner#getSearchLimit() search limit}
+	 * is lowered to {@link Main#WARMUP_LIMIT} during warmup so that warmups on
+	 * hard problems end quickly. The results of warmup searches are discarded,
+	 * but the number of searches and the time they took are {@link
+	 * Report#setWarmup(int, long) added to the report}.
+	 * 
+	 * @param status a status object to update as warmup searches complete
+	 * @throws Exception if a warmup search throws an exception
+	 */
+	public void warmup(Status status) throws Exception {
+		ArrayList<Test> warmups = new ArrayList<>();
+		LinkedHashMap<ProgressionPlanner, Long> limits = new LinkedHashMap<>();
 		for(Test test : tests) {
-			if(test.status == TestStatus.PENDING) {
-				result = test;
-				break;
+			if(test.run == 1) {
+				for(int run=1; run<=Main.WARMUP; run++)
+					warmups.add(new Test(test.problem, test.planner, run));
+				limits.put(test.planner, test.planner.getSearchLimit());
+			}
+		}
+		if(warmups.isEmpty())
+			return;
+		status.setMessage("Warming up: %d of " + warmups.size() + " complete", 0);
+		long start = System.currentTimeMillis();
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		try {
+			for(Map.Entry<ProgressionPlanner, Long> entry : limits.entrySet())
+				if(entry.getValue() == Planner.UNLIMITED_NODES || entry.getValue() > Main.WARMUP_LIMIT)
+					entry.getKey().setSearchLimit(Main.WARMUP_LIMIT);
+			ArrayList<Future<?>> futures = new ArrayList<>();
+			for(Test test : warmups) {
+				futures.add(pool.submit(() -> {
+					Status warmup = new Status();
+					return test.getSearch(warmup, new PhaseTimer()).get(warmup);
+				}));
 			}
-			else if(test.status == TestStatus.COMPLETE && ordered) {
-				report.addResult(test);
-				test.status = TestStatus.LOGGED;
-				print = true;
+			for(int i=0; i<futures.size(); i++) {
+				try {
+					futures.get(i).get();
+				}
+				catch(ExecutionException e) {
+					if(e.getCause() instanceof Exception)
+						throw (Exception) e.getCause();
+					else
+						throw e;
+				}
+				status.update(0, i + 1);
 			}
-			else if(test.status != TestStatus.LOGGED)
-				ordered = false;
 		}
-		if(print)
-			System.out.println("\n" + report.results);
-		if(result != null) {
-			result.status = TestStatus.RUNNING;
-			System.out.println("\nStarted: " + result);
+		finally {
+			pool.shutdownNow();
+			for(Map.Entry<ProgressionPlanner, Long> entry : limits.entrySet())
+				entry.getKey().setSearchLimit(entry.getValue());
 		}
-		return result;
+		report.setWarmup(warmups.size(), System.currentTimeMillis() - start);
+		System.out.println("\nCompleted " + warmups.size() + " warmup searches.");
+	}
+	
+	/**
+	 * Returns the total number of tests in this suite. If {@link
+	 * Main#ADAPTIVE} is true, this grows as runs are added.
+	 * 
+	 * @return the number of tests
+	 */
+	public synchronized int getSize() {
+		return tests.size();
 	}
 	
-	private synchronized void complete(Test test, Result<CompiledAction> result) {
+	/**
+	 * Returns the number of tests that have not yet started.
+	 * 
+	 * @return the number of pending tests
+	 */
+	public synchronized int getPending() {
+		int pending = 0;
+		for(Test test : tests)
+			if(test.status == TestStatus.PENDING)
+				pending++;
+		return pending;
+	}
+	
+	/**
+	 * Returns the number of tests that have started but not completed.
+	 * 
+	 * @return the number of running tests
+	 */
+	public synchronized int getRunning() {
+		int running = 0;
+		for(Test test : tests)
+			if(test.status == TestStatus.RUNNING)
+				running++;
+		return running;
+	}
+	
+	/**
+	 * Returns every test that has completed so far, in the order they appear
+	 * in the suite.
+	 * 
+	 * @return a list of completed tests
+	 */
+	public synchronized List<Test> getCompleted() {
+		ArrayList<Test> completed = new ArrayList<>(complete);
+		for(Test test : tests)
+			if(test.status == TestStatus.COMPLETE || test.status == TestStatus.LOGGED)
+				completed.add(test);
+		return completed;
+	}
+	
+	/**
+	 * Returns the threads running tests, or an empty list if tests are not
+	 * currently running.
+	 * 
+	 * @return a list of runners
+	 */
+	public List<Runner> getRunners() {
+		List<Runner> runners = this.runners;
+		return runners == null ? List.of() : runners;
+	}
+	
+	/**
+	 * Returns the next pending test and marks it as running. If no test is
+	 * pending but some are still running or {@link #deciding being decided
+	 * on}, this waits, since they may add more runs when {@link Main#ADAPTIVE}
+	 * is true. Returns null once no test is pending, running, or being
+	 * decided on, or if a runner has thrown an exception.
+	 * 
+	 * @return the next test, or null if the runner should stop
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	private synchronized Test getNext() throws InterruptedException {
+		while(exception == null) {
+			boolean ordered = true;
+			boolean print = false;
+			boolean running = false;
+			Test result = null;
+			for(Test test : tests) {
+				if(test.status == TestStatus.PENDING) {
+					result = test;
+					break;
+				}
+				else if(test.status == TestStatus.COMPLETE && ordered) {
+					report.addResult(test);
+					test.status = TestStatus.LOGGED;
+					print = true;
+				}
+				else if(test.status != TestStatus.LOGGED) {
+					ordered = false;
+					running = running || test.status == TestStatus.RUNNING;
+				}
+			}
+			if(print)
+				System.out.println("\n" + report.results);
+			if(result != null) {
+				result.status = TestStatus.RUNNING;
+				System.out.println("\nStarted: " + result);
+				return result;
+			}
+			else if(!running && deciding == 0)
+				break;
+			wait();
+		}
+		notifyAll();
+		return null;
+	}
+	
+	/**
+	 * Records the result of a test. If {@link Main#ADAPTIVE} is true and none
+	 * of the runs of the test's planner on its problem are still pending or
+	 * running, this returns a copy of the pair's runs so the caller can decide
+	 * {@link #needsRun(List) whether it needs another run} without holding
+	 * the lock, and the caller must then call {@link #adapt(Test, int,
+	 * boolean)}.
+	 * 
+	 * @param test the test that just completed
+	 * @param result the result of the test's search
+	 * @return every run of the pair, or null if no decision is needed
+	 */
+	private synchronized List<Test> complete(Test test, Result<CompiledAction> result) {
 		test.result = result;
 		test.status = TestStatus.COMPLETE;
 		complete++;
@@ -231,5 +742,177 @@ public class TestSuite {
 		if(result.getSuccess())
 			message += "\n" + result.solution;
 		System.out.println("\n" + message);
+		notifyAll();
+		if(!Main.ADAPTIVE)
+			return null;
+		ArrayList<Test> group = new ArrayList<>();
+		for(Test other : tests) {
+			if(other.problem == test.problem && other.planner == test.planner) {
+				if(other.status == TestStatus.PENDING || other.status == TestStatus.RUNNING)
+					return null;
+				group.add(other);
+			}
+		}
+		deciding++;
+		return group;
+	}
+	
+	/**
+	 * Finishes deciding whether a completed test's planner needs another run
+	 * on its problem and, if so, adds it after the pair's other runs and
+	 * wakes any runners waiting for a test.
+	 * 
+	 * @param test the test that completed the pair's runs
+	 * @param runs the number of runs the pair has completed
+	 * @param run whether another run should be added
+	 */
+	private synchronized void adapt(Test test, int runs, boolean run) {
+		deciding--;
+		if(run) {
+			int last = -1;
+			for(int i=0; i<tests.size(); i++)
+				if(tests.get(i).problem == test.problem && tests.get(i).planner == test.planner)
+					last = i;
+			tests.add(last + 1, new Test(test.problem, test.planner, runs + 1));
+			if(this.status != null)
+				this.status.setMessage("Running tests: %d of " + tests.size() + " complete", complete);
+		}
+		notifyAll();
+	}
+	
+	/**
+	 * Records an exception thrown by a runner, so that {@link #run(Status)}
+	 * can throw it, and wakes any runners waiting for a test so they stop.
+	 * 
+	 * @param exception the exception
+	 */
+	private synchronized void fail(Exception exception) {
+		this.exception = exception;
+		notifyAll();
+	}
+	
+	/**
+	 * Decides whether a planner should be run again on a problem, given its
+	 * completed runs.
+	 * 
+	 * @param group every completed run of one planner on one problem
+	 * @return true if another run should be added
+	 */
+	private static final boolean needsRun(List<Test> group) {
+		if(group.size() >= Main.RUNS)
+			return false;
+		double[] visited = new double[group.size()];
+		double[] time = new double[group.size()];
+		boolean solved = false;
+		LinkedHashMap<String, Integer> failures = new LinkedHashMap<>();
+		for(int i=0; i<group.size(); i++) {
+			Result<CompiledAction> result = group.get(i).result;
+			solved = solved || result.getSuccess();
+			visited[i] = result.visited;
+			time[i] = result.time;
+			String reason = getFailure(group.get(i));
+			if(reason != null && failures.merge(reason, 1, Integer::sum) >= Main.MIN_RUNS)
+				return false;
+		}
+		if(!solved)
+			return false;
+		return !isNarrow(visited, 1) || !isNarrow(time, Main.MIN_TIME_WIDTH);
+	}
+	
+	/**
+	 * Returns the reason a completed test failed: that it reached its
+	 * planner's limit on nodes visited, nodes generated, or time, or that it
+	 * exhausted the search space without reaching any of them. Returns null
+	 * if the test succeeded.
+	 * 
+	 * @param test a completed test
+	 * @return the reason the test failed, or null if it succeeded
+	 */
+	private static final String getFailure(Test test) {
+		Result<CompiledAction> result = test.result;
+		long nodes = test.planner.getSearchLimit();
+		long space = test.planner.getSpaceLimit();
+		long time = test.planner.getTimeLimit();
+		if(result.getSuccess())
+			return null;
+		else if(nodes != Planner.UNLIMITED_NODES && result.visited >= nodes)
+			return "nodes";
+		else if(space != Planner.UNLIMITED_NODES && result.generated >= space)
+			return "space";
+		else if(time != Planner.UNLIMITED_TIME && result.time >= time)
+			return "time";
+		else
+			return "exhausted";
+	}
+	
+	/**
+	 * Checks whether the bootstrap confidence interval of the median of some
+	 * values is no wider than {@link Main#TARGET_WIDTH} times the median or a
+	 * given width, whichever is larger.
+	 * 
+	 * @param values the values of one measure from each run
+	 * @param floor a width that is always narrow enough, because the values
+	 * cannot usefully be measured more precisely
+	 * @return true if the interval is narrow enough
+	 */
+	private static final boolean isNarrow(double[] values, double floor) {
+		double median = Bootstrap.MEDIAN.applyAsDouble(values.clone());
+		Bootstrap.Interval interval = Report.BOOTSTRAP.getInterval(values, Bootstrap.MEDIAN);
+		return interval.getWidth() <= Math.max(floor, Main.TARGET_WIDTH * median);
+	}
+	
+	/**
+	 * Returns the CPU time in nanoseconds the current thread has used, or -1
+	 * if the JVM does not support measuring it.
+	 * 
+	 * @return the CPU time used by the current thread, or -1
+	 */
+	private static final long getCPUTime() {
+		if(THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported())
+			return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+		else
+			return -1;
+	}
+	
+	/**
+	 * Returns the CPU time in nanoseconds the current thread has spent in
+	 * user mode, or -1 if the JVM does not support measuring it.
+	 * 
+	 * @return the user mode CPU time of the current thread, or -1
+	 */
+	private static final long getUserTime() {
+		if(THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported())
+			return THREAD_MX_BEAN.getCurrentThreadUserTime();
+		else
+			return -1;
+	}
+	
+	/**
+	 * Returns the total number of bytes the current thread has allocated on
+	 * the heap, or -1 if the JVM does not support measuring it.
+	 * 
+	 * @return the bytes allocated by the current thread, or -1
+	 */
+	@SuppressWarnings("deprecation")
+	private static final long getAllocatedBytes() {
+		if(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemorySupported())
+			return ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId());
+		else
+			return -1;
+	}
+	
+	/**
+	 * Returns the difference between two measurements of the current thread
+	 * taken before and after a test, or null if either measurement was
+	 * unavailable.
+	 * 
+	 * @param start the measurement before the test
+	 * @param end the measurement after the test
+	 * @return the difference, or null
+	 */
+	private static final Long elapsed(long start, long end) {
+		if(start == -1 || end == -1)
+			return null;
+		return end - start;
 	}
 }
\ No newline at end of file
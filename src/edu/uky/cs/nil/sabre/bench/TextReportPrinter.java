@@ -5,6 +5,7 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.lang.management.ManagementFactory;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -58,9 +59,15 @@ public class TextReportPrinter implements ReportPrinter {
 		print("OS Version:    " + System.getProperty("os.version") + "\n");
 		print("Memory Used:   " + Runtime.getRuntime().totalMemory() + "B\n");
 		print("Max Memory:    " + Runtime.getRuntime().maxMemory() + "B\n");
+		print("JVM Arguments: " + String.join(" ", ManagementFactory.getRuntimeMXBean().getInputArguments()) + "\n");
 		print("Threads:       " + Main.THREADS + "\n");
-		print("Runs:          " + Main.RUNS + "\n");
-		print("Shuffle:       " + Main.SHUFFLE + "\n");
+		if(Main.ADAPTIVE)
+			print("Runs:          " + Main.MIN_RUNS + " to " + Main.RUNS + " (adaptive, target width " + Main.TARGET_WIDTH + ")\n");
+		else
+			print("Runs:          " + Main.RUNS + "\n");
+		print("Shuffle:       " + Main.SHUFFLE + " (seed " + Main.SHUFFLE_SEED + ")\n");
+		print("Warmup:        " + report.getWarmups() + " searches limited to " + Main.WARMUP_LIMIT + " nodes (" + report.getWarmupTime() + "ms)\n");
+		print("Intervals:     " + Report.BOOTSTRAP + "\n");
 		print("Start:         " + report.getStart() + " (" + ZonedDateTime.ofInstant(Instant.ofEpochMilli(report.getStart()), ZoneId.systemDefault()) + ")\n");
 		print("End:           " + report.getEnd() + " (" + ZonedDateTime.ofInstant(Instant.ofEpochMilli(report.getEnd()), ZoneId.systemDefault()) + ")\n");
 		long duration = report.getEnd() - report.getStart();
@@ -74,6 +81,14 @@ public class TextReportPrinter implements ReportPrinter {
 		print(report.results);
 		print("\n\n= Summary =\n\n");
 		print(report.summary);
+		print("\n\n= Comparisons =\n\n");
+		print(report.comparisons);
+		if(report.scaling.rows.size() > 0) {
+			print("\n\n= Scaling =\n\n");
+			print(report.scaling);
+		}
+		print("\n\n= Garbage Collection =\n\n");
+		print(report.collectors);
 	}
 	
 	/**
@@ -0,0 +1,240 @@
+package edu.uky.cs.nil.sabre.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import edu.uky.cs.nil.sabre.prog.ProgressionPlanner;
+import edu.uky.cs.nil.sabre.util.Worker;
+import edu.uky.cs.nil.sabre.util.Worker.Status;
+
+/**
+ * Runs a representative subset of the benchmark suite on 1, 2, 4, and so on
+ * threads, up to the number of available processors, to find how many
+ * threads {@link Main#THREADS the full suite} should use on the current
+ * machine and heap. Running more tests in parallel finishes the suite sooner,
+ * but tests compete for processors, memory bandwidth, and the heap, so each
+ * test takes longer than it would alone and its measured time is less
+ * accurate.
+ * <p>
+ * For each number of threads, the {@link #PROBLEMS subset of problems} is
+ * tested on every {@link Main#getPlanners() planner} {@link Main#RUNS the
+ * usual number of times}, and a row is added to a table giving the
+ * throughput in tests per hour, the average time per test and its inflation
+ * relative to running on one thread, the parallel efficiency (the speedup
+ * over one thread divided by the number of threads), and the share of the
+ * wall clock time spent in garbage collections that stopped all threads. The
+ * recommended number of threads is the one with the highest throughput whose
+ * inflation and garbage collection share are no higher than {@link
+ * #MAX_INFLATION} and {@link #MAX_GC_SHARE}.
+ * <p>
+ * The table is printed and saved to {@code results/threads.csv}; the progress
+ * of each test is not written, since each number of threads would overwrite
+ * it. Because all tests share one heap, the results depend on the heap size
+ * the JVM was started with, so this should be run with the same JVM arguments
+ * as the full suite.
+ * 
+ * @author Stephen G. Ware
+ */
+public class ThreadScaling {
+	
+	/**
+	 * The names of the {@link Main#getProblems() benchmark problems} to test,
+	 * chosen to include problems of different sizes that every planner
+	 * usually solves quickly
+	 */
+	public static final String[] PROBLEMS = { "bribery", "secretagent", "western", "raiders", "treasure", "lovers" };
+	
+	/**
+	 * The largest inflation of the average time per test, relative to one
+	 * thread, allowed for a recommended number of threads
+	 */
+	public static final double MAX_INFLATION = 1.25;
+	
+	/**
+	 * The largest share of wall clock time spent in garbage collections that
+	 * stop all threads allowed for a recommended number of threads
+	 */
+	public static final double MAX_GC_SHARE = 0.05;
+	
+	/** Column label for the number of threads tests ran on */
+	public static final String THREADS = "Threads";
+	
+	/** Column label for the number of tests run */
+	public static final String TESTS = "Tests";
+	
+	/** Column label for the number of tests that were solved */
+	public static final String SOLVED = "Solved";
+	
+	/** Column label for the wall clock time taken to run all the tests */
+	public static final String DURATION = "Duration (ms)";
+	
+	/** Column label for the number of tests completed per hour */
+	public static final String THROUGHPUT = "Tests per Hour";
+	
+	/** Column label for the average wall clock time per test */
+	public static final String AVG_TIME = "Avg. Time (ms)";
+	
+	/**
+	 * Column label for the average time per test divided by the average time
+	 * per test on one thread
+	 */
+	public static final String INFLATION = "Time Inflation";
+	
+	/**
+	 * Column label for the duration on one thread divided by the duration,
+	 * divided by the number of threads
+	 */
+	public static final String EFFICIENCY = "Parallel Efficiency";
+	
+	/**
+	 * Column label for the share of the duration spent in garbage collections
+	 * that stop all threads
+	 */
+	public static final String GC_SHARE = "GC Pause Share";
+	
+	/** Column label for whether this number of threads is recommended */
+	public static final String RECOMMENDED = "Recommended?";
+	
+	/**
+	 * Runs the subset of the suite on each number of threads, prints the
+	 * results, and saves them to {@code results/threads.csv}.
+	 * 
+	 * @param args not used
+	 * @throws Exception if an exception occurs while the tests are running
+	 */
+	public static void main(String[] args) throws Exception {
+		Table table = Worker.get(status -> run(status), 1, TimeUnit.MINUTES);
+		System.out.println("\n\n" + table);
+		Table.Row recommended = null;
+		for(Table.Row row : table.rows)
+			if(row.get(RECOMMENDED).get(Boolean.class))
+				recommended = row;
+		if(recommended == null)
+			System.out.println("\nNo number of threads met the limits on inflation and garbage collection; use 1 thread or a larger heap.");
+		else
+			System.out.println("\nRecommended threads for this machine and a " + Runtime.getRuntime().maxMemory() + "B heap: " + recommended.get(THREADS).get());
+		new File("results").mkdirs();
+		try(CSVTablePrinter printer = new CSVTablePrinter(new File("results/threads.csv"))) {
+			printer.print(table);
+		}
+	}
+	
+	/**
+	 * Returns the numbers of threads to test: powers of 2 less than the given
+	 * number of processors, followed by the number of processors.
+	 * 
+	 * @param processors the number of available processors
+	 * @return the numbers of threads to test, in ascending order
+	 */
+	public static List<Integer> getLevels(int processors) {
+		ArrayList<Integer> levels = new ArrayList<>();
+		for(int threads=1; threads<processors; threads*=2)
+			levels.add(threads);
+		levels.add(Math.max(1, processors));
+		return levels;
+	}
+	
+	/**
+	 * Runs the subset of the suite on each number of threads and returns a
+	 * table with one row for each number of threads.
+	 * 
+	 * @param status a status object to update while tests are running
+	 * @return the results for each number of threads
+	 * @throws Exception if an exception occurs while the tests are running
+	 */
+	private static Table run(Status status) throws Exception {
+		ArrayList<Benchmark> problems = new ArrayList<>();
+		for(Benchmark problem : Main.getProblems())
+			for(String name : PROBLEMS)
+				if(problem.name.equals(name))
+					problems.add(problem);
+		for(Benchmark problem : problems)
+			problem.load(status);
+		List<ProgressionPlanner> planners = Main.getPlanners();
+		Table table = new Table();
+		table.addColumn(THREADS, Integer.class);
+		table.addColumn(TESTS, Integer.class);
+		table.addColumn(SOLVED, Integer.class);
+		table.addColumn(DURATION, Long.class);
+		table.addColumn(THROUGHPUT, Double.class);
+		table.addColumn(AVG_TIME, Double.class);
+		table.addColumn(INFLATION, Double.class);
+		table.addColumn(EFFICIENCY, Double.class);
+		table.addColumn(GC_SHARE, Double.class);
+		table.addColumn(RECOMMENDED, Boolean.class);
+		Long baseDuration = null;
+		Double baseTime = null;
+		for(int threads : getLevels(Runtime.getRuntime().availableProcessors())) {
+			System.out.println("\nRunning " + problems.size() + " problems on " + threads + " threads.");
+			Report report = new Report();
+			for(Benchmark problem : problems)
+				report.addProblem(problem, status);
+			for(ProgressionPlanner planner : planners)
+				report.addPlanner(planner);
+			TestSuite suite = new TestSuite(problems, planners, report, threads, null);
+			if(baseDuration == null)
+				suite.warmup(status);
+			report.setStart();
+			suite.run(status);
+			report.setEnd();
+			long duration = Math.max(1, report.getEnd() - report.getStart());
+			int solved = 0;
+			for(Table.Row row : report.results.rows)
+				if(row.get(Report.RESULTS_SUCCESS).get(Boolean.class))
+					solved++;
+			double time = (double) report.getComputeTime() / suite.getSize();
+			long pauses = 0;
+			for(Table.Row row : report.collectors.rows)
+				if(row.get(Report.COLLECTORS_PAUSE).get(Boolean.class))
+					pauses += row.get(Report.COLLECTORS_TOTAL_TIME).get(Long.class);
+			if(baseDuration == null) {
+				baseDuration = duration;
+				baseTime = time;
+			}
+			table.addRow(threads);
+			table.set(threads, THREADS, threads);
+			table.set(threads, TESTS, suite.getSize());
+			table.set(threads, SOLVED, solved);
+			table.set(threads, DURATION, duration);
+			table.set(threads, THROUGHPUT, suite.getSize() * 3600000.0 / duration);
+			table.set(threads, AVG_TIME, time);
+			if(baseTime > 0)
+				table.set(threads, INFLATION, time / baseTime);
+			table.set(threads, EFFICIENCY, (double) baseDuration / duration / threads);
+			table.set(threads, GC_SHARE, (double) pauses / duration);
+		}
+		recommend(table);
+		return table;
+	}
+	
+	/**
+	 * Marks the row with the highest throughput whose inflation and garbage
+	 * collection share are within {@link #MAX_INFLATION} and {@link
+	 * #MAX_GC_SHARE} as recommended. If the inflation could not be calculated
+	 * because tests took no measurable time, it is not limited.
+	 * 
+	 * @param table the table of results for each number of threads
+	 */
+	private static void recommend(Table table) {
+		Table.Row best = null;
+		for(Table.Row row : table.rows) {
+			row.get(RECOMMENDED).set(false);
+			Double inflation = row.get(INFLATION).get(Double.class);
+			if(inflation != null && inflation > MAX_INFLATION)
+				continue;
+			else if(row.get(GC_SHARE).get(Double.class) > MAX_GC_SHARE)
+				continue;
+			else if(best == null || row.get(THROUGHPUT).get(Double.class) > best.get(THROUGHPUT).get(Double.class))
+				best = row;
+		}
+		if(best != null)
+			best.get(RECOMMENDED).set(true);
+	}
+	
+	/**
+	 * A private constructor means this class cannot be instantiated.
+	 */
+	private ThreadScaling() {}
+}
\ No newline at end of file